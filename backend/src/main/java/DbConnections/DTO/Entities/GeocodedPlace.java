@@ -0,0 +1,36 @@
+package DbConnections.DTO.Entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Geocoding result for a search input that is not a location display name
+ * Keyed by the trimmed, lowercased input (init/schema_004_geocoded_places.sql)
+ */
+@Entity
+@Table(name = "geocoded_places")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GeocodedPlace {
+
+    @Id
+    @Column(name = "search_text", length = 255)
+    private String searchText;
+
+    @Column(name = "latitude", nullable = false)
+    private Double latitude;
+
+    @Column(name = "longitude", nullable = false)
+    private Double longitude;
+
+    @Column(name = "display_name", nullable = false, length = 500)
+    private String displayName;
+
+    @Column(name = "geocoded_at", nullable = false, insertable = false, updatable = false)
+    private LocalDateTime geocodedAt;
+}
@@ -38,7 +38,8 @@ public class JobResponseDto {
     private BigDecimal salaryMax;
 
     // Job details
-    private String description;
+    private String description;   // Full text; only set by the job detail endpoint
+    private String snippet;       // Start of the description as plain text (no HTML); set for search result lists
     private String jobUrl;
     private String source;
 
@@ -47,6 +48,9 @@ public class JobResponseDto {
     private String dateFound;
     private String applyBy;
 
+    // Distance from the search center in miles (distance searches only)
+    private Double distanceMiles;
+
     // Nested company object for compatibility with Adzuna format
     @Data
     @Builder
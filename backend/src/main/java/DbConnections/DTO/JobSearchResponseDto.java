@@ -12,11 +12,33 @@ import java.util.List;
  * Matches the expected frontend JobSearchResponse interface
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class JobSearchResponseDto {
     private int count;
     private List<JobResponseDto> results;
     private boolean fromCache;
+
+    // Paginated searches only: total matches (first page only, null otherwise)
+    // and the cursor for the next page (null on the last page)
+    private Long totalCount;
+    private String nextCursor;
+
+    // True when the results were served without a fresh upstream fetch inside the refresh window
+    private boolean stale;
+
+    // True while a background refresh for this search is in progress
+    private boolean refreshing;
+
+    /**
+     * Copy of this response with freshness flags set
+     * Copies rather than mutates so cached instances are never modified
+     */
+    public JobSearchResponseDto withFreshness(boolean stale, boolean refreshing) {
+        return toBuilder()
+                .stale(stale)
+                .refreshing(refreshing)
+                .build();
+    }
 }
@@ -7,6 +7,7 @@ import lombok.*;
 import org.springframework.lang.Nullable;
 
 import java.time.LocalDate;
+import java.util.Locale;
 
 @Getter
 @Setter
@@ -14,6 +15,7 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @Builder
 @ToString
+@EqualsAndHashCode
 public class SearchParamsDto {
     @NotBlank(message = "Query cannot be blank")
     private String query;
@@ -47,4 +49,21 @@ public class SearchParamsDto {
     @Nullable
     private LocalDate dateTo;
 
+    /**
+     * Copy holding only what identifies an upstream fetch (query, location, distance and page size),
+     * with query and location trimmed and lowercased. Used as a key to share identical in-flight fetches.
+     */
+    public SearchParamsDto normalizedForFetch() {
+        return SearchParamsDto.builder()
+                .query(normalize(query))
+                .location(normalize(location))
+                .distance(distance)
+                .resultsPerPage(resultsPerPage)
+                .fullTime(fullTime)
+                .build();
+    }
+
+    private static String normalize(String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
 }
@@ -0,0 +1,146 @@
+package DbConnections;
+
+import DbConnections.Repositories.CategoryRepository;
+import DbConnections.Repositories.CompanyRepository;
+import DbConnections.Repositories.LocationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process name -> id cache for the company, location and category dimension tables
+ * Keeps JobMapper from querying the database for every job during ingestion.
+ * Each dimension is bounded; once full, further names are simply not cached.
+ */
+@Component
+public class DimensionCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(DimensionCache.class);
+
+    /**
+     * Dimension tables that are cached
+     */
+    public enum Dimension {
+        COMPANY, LOCATION, CATEGORY
+    }
+
+    private final CompanyRepository companyRepository;
+    private final LocationRepository locationRepository;
+    private final CategoryRepository categoryRepository;
+    private final int maxSize;
+
+    private final Map<Dimension, Map<String, Long>> caches = new EnumMap<>(Dimension.class);
+    private final Map<Dimension, Counter> hitCounters = new EnumMap<>(Dimension.class);
+    private final Map<Dimension, Counter> missCounters = new EnumMap<>(Dimension.class);
+
+    public DimensionCache(CompanyRepository companyRepository,
+                          LocationRepository locationRepository,
+                          CategoryRepository categoryRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.dimension-cache.max-size:10000}") int maxSize) {
+        this.companyRepository = companyRepository;
+        this.locationRepository = locationRepository;
+        this.categoryRepository = categoryRepository;
+        this.maxSize = maxSize;
+
+        for (Dimension dimension : Dimension.values()) {
+            Map<String, Long> cache = new ConcurrentHashMap<>();
+            String tag = dimension.name().toLowerCase();
+            caches.put(dimension, cache);
+            hitCounters.put(dimension, Counter.builder("dimension.cache.requests")
+                    .tag("dimension", tag)
+                    .tag("result", "hit")
+                    .register(meterRegistry));
+            missCounters.put(dimension, Counter.builder("dimension.cache.requests")
+                    .tag("dimension", tag)
+                    .tag("result", "miss")
+                    .register(meterRegistry));
+            Gauge.builder("dimension.cache.size", cache, Map::size)
+                    .tag("dimension", tag)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Warm all dimension caches from the database once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            PageRequest firstPage = PageRequest.of(0, maxSize);
+            companyRepository.findAll(firstPage)
+                    .forEach(company -> put(Dimension.COMPANY, company.getName(), company.getId()));
+            locationRepository.findAll(firstPage)
+                    .forEach(location -> put(Dimension.LOCATION, location.getDisplayName(), location.getId()));
+            categoryRepository.findAll(firstPage)
+                    .forEach(category -> put(Dimension.CATEGORY, category.getTag(), category.getId()));
+
+            logger.info("Dimension cache warmed: {} companies, {} locations, {} categories",
+                    size(Dimension.COMPANY), size(Dimension.LOCATION), size(Dimension.CATEGORY));
+        } catch (Exception e) {
+            logger.warn("Failed to warm dimension cache, continuing with a cold cache: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Look up a cached id, recording a hit or miss
+     * @return The cached id, or null if the name is not cached
+     */
+    public Long get(Dimension dimension, String name) {
+        Long id = caches.get(dimension).get(name);
+        (id != null ? hitCounters : missCounters).get(dimension).increment();
+        return id;
+    }
+
+    /**
+     * Cache an id for a row that is already committed
+     */
+    public void put(Dimension dimension, String name, Long id) {
+        if (name == null || id == null) {
+            return;
+        }
+
+        Map<String, Long> cache = caches.get(dimension);
+        if (cache.size() < maxSize || cache.containsKey(name)) {
+            cache.put(name, id);
+        }
+    }
+
+    /**
+     * Cache an id looked up or inserted in the current transaction
+     * The entry is only published after commit so a rollback cannot leave a dangling id behind
+     */
+    public void putAfterCommit(Dimension dimension, String name, Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(dimension, name, id);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(dimension, name, id);
+            }
+        });
+    }
+
+    /**
+     * Number of cached entries for a dimension
+     */
+    public int size(Dimension dimension) {
+        return caches.get(dimension).size();
+    }
+}
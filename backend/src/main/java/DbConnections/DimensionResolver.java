@@ -0,0 +1,208 @@
+package DbConnections;
+
+import DbConnections.DimensionCache.Dimension;
+import DbConnections.DTO.Entities.Category;
+import DbConnections.DTO.Entities.Company;
+import DbConnections.DTO.Entities.Location;
+import DbConnections.DTO.JobDto;
+import DbConnections.Repositories.CategoryRepository;
+import DbConnections.Repositories.CompanyRepository;
+import DbConnections.Repositories.DimensionInsertRepository;
+import DbConnections.Repositories.LocationRepository;
+import JobSearch.Services.LocationGeocodingQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves the company, location and category ids for a whole page of jobs at once
+ * For each dimension: cached names are served from DimensionCache, the rest are looked up
+ * with one IN query, and anything still missing is bulk-inserted with ON CONFLICT DO NOTHING.
+ */
+@Component
+public class DimensionResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(DimensionResolver.class);
+
+    private final CompanyRepository companyRepository;
+    private final LocationRepository locationRepository;
+    private final CategoryRepository categoryRepository;
+    private final DimensionInsertRepository dimensionInsertRepository;
+    private final DimensionCache dimensionCache;
+    private final LocationGeocodingQueue locationGeocodingQueue;
+
+    public DimensionResolver(CompanyRepository companyRepository,
+                             LocationRepository locationRepository,
+                             CategoryRepository categoryRepository,
+                             DimensionInsertRepository dimensionInsertRepository,
+                             DimensionCache dimensionCache,
+                             LocationGeocodingQueue locationGeocodingQueue) {
+        this.companyRepository = companyRepository;
+        this.locationRepository = locationRepository;
+        this.categoryRepository = categoryRepository;
+        this.dimensionInsertRepository = dimensionInsertRepository;
+        this.dimensionCache = dimensionCache;
+        this.locationGeocodingQueue = locationGeocodingQueue;
+    }
+
+    /**
+     * Resolve (finding or creating) every distinct company, location and category on a page
+     * IMPORTANT: This method must be called within a transaction.
+     */
+    @Transactional
+    public ResolvedDimensions resolve(List<JobDto> dtos) {
+        Map<String, Long> companyIds = resolveDimension(Dimension.COMPANY,
+                distinctNonBlank(dtos, JobDto::getCompanyName),
+                names -> companyRepository.findByNameIn(names).stream()
+                        .collect(Collectors.toMap(Company::getName, Company::getId)),
+                dimensionInsertRepository::insertCompanies);
+
+        Map<String, Long> locationIds = resolveDimension(Dimension.LOCATION,
+                distinctNonBlank(dtos, JobDto::getLocationName),
+                names -> locationRepository.findByDisplayNameIn(names).stream()
+                        .collect(Collectors.toMap(Location::getDisplayName, Location::getId)),
+                this::insertLocations);
+
+        Map<String, Long> categoryIds = resolveDimension(Dimension.CATEGORY,
+                distinctNonBlank(dtos, JobDto::getCategoryTag),
+                tags -> categoryRepository.findByTagIn(tags).stream()
+                        .collect(Collectors.toMap(Category::getTag, Category::getId)),
+                tags -> dimensionInsertRepository.insertCategories(tags.stream()
+                        .map(this::buildCategory)
+                        .collect(Collectors.toList())));
+
+        return new ResolvedDimensions(companyIds, locationIds, categoryIds);
+    }
+
+    /**
+     * Resolve one dimension: cache first, then a single IN query, then a bulk insert.
+     * Names skipped by an insert conflict (created concurrently) are re-read once.
+     */
+    private Map<String, Long> resolveDimension(Dimension dimension,
+                                               Set<String> names,
+                                               Function<Collection<String>, Map<String, Long>> finder,
+                                               Function<Collection<String>, Map<String, Long>> inserter) {
+        Map<String, Long> resolved = new HashMap<>();
+        Set<String> missing = new LinkedHashSet<>();
+
+        for (String name : names) {
+            Long cachedId = dimensionCache.get(dimension, name);
+            if (cachedId != null) {
+                resolved.put(name, cachedId);
+            } else {
+                missing.add(name);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            return resolved;
+        }
+
+        Map<String, Long> found = finder.apply(missing);
+        publish(dimension, found);
+        resolved.putAll(found);
+        missing.removeAll(found.keySet());
+
+        if (missing.isEmpty()) {
+            return resolved;
+        }
+
+        Map<String, Long> inserted = inserter.apply(missing);
+        publish(dimension, inserted);
+        resolved.putAll(inserted);
+        missing.removeAll(inserted.keySet());
+
+        if (!missing.isEmpty()) {
+            Map<String, Long> concurrentlyCreated = finder.apply(missing);
+            publish(dimension, concurrentlyCreated);
+            resolved.putAll(concurrentlyCreated);
+            missing.removeAll(concurrentlyCreated.keySet());
+        }
+
+        if (!missing.isEmpty()) {
+            logger.warn("Could not resolve {} {} value(s): {}", missing.size(), dimension.name().toLowerCase(), missing);
+        }
+
+        logger.debug("Resolved {} {} value(s): {} found, {} inserted",
+                resolved.size(), dimension.name().toLowerCase(), found.size(), inserted.size());
+        return resolved;
+    }
+
+    private void publish(Dimension dimension, Map<String, Long> ids) {
+        ids.forEach((name, id) -> dimensionCache.putAfterCommit(dimension, name, id));
+    }
+
+    /**
+     * Collect the distinct, non-blank values of a field across the page
+     */
+    private Set<String> distinctNonBlank(List<JobDto> dtos, Function<JobDto, String> field) {
+        return dtos.stream()
+                .map(field)
+                .filter(value -> value != null && !value.isBlank())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Insert new locations without coordinates and hand them to the background geocoding queue
+     * Geocoding is kept out of the ingest transaction so a slow geocoder never pins a DB connection.
+     */
+    private Map<String, Long> insertLocations(Collection<String> displayNames) {
+        Map<String, Long> inserted = dimensionInsertRepository.insertLocations(displayNames.stream()
+                .map(displayName -> Location.builder()
+                        .displayName(displayName)
+                        .country("US")
+                        .build())
+                .collect(Collectors.toList()));
+        locationGeocodingQueue.enqueueAfterCommit(inserted);
+        return inserted;
+    }
+
+    /**
+     * Build a new Category row, using the tag as name since we don't have a separate name
+     */
+    private Category buildCategory(String tag) {
+        return Category.builder()
+                .tag(tag)
+                .name(tag.replace("-", " ").toUpperCase())
+                .build();
+    }
+
+    /**
+     * Name -> id lookups for one page of jobs
+     */
+    public static class ResolvedDimensions {
+        private final Map<String, Long> companyIds;
+        private final Map<String, Long> locationIds;
+        private final Map<String, Long> categoryIds;
+
+        public ResolvedDimensions(Map<String, Long> companyIds,
+                                  Map<String, Long> locationIds,
+                                  Map<String, Long> categoryIds) {
+            this.companyIds = companyIds;
+            this.locationIds = locationIds;
+            this.categoryIds = categoryIds;
+        }
+
+        public Long getCompanyId(String name) {
+            return name != null ? companyIds.get(name) : null;
+        }
+
+        public Long getLocationId(String displayName) {
+            return displayName != null ? locationIds.get(displayName) : null;
+        }
+
+        public Long getCategoryId(String tag) {
+            return tag != null ? categoryIds.get(tag) : null;
+        }
+    }
+}
@@ -1,34 +1,22 @@
 // java
 package DbConnections;
 
+import DbConnections.DimensionResolver.ResolvedDimensions;
 import DbConnections.DTO.JobDto;
-import DbConnections.DTO.Entities.Company;
-import DbConnections.DTO.Entities.Category;
 import DbConnections.DTO.Entities.JobEntity;
-import DbConnections.DTO.Entities.Location;
-import DbConnections.Repositories.CategoryRepository;
-import DbConnections.Repositories.CompanyRepository;
-import DbConnections.Repositories.LocationRepository;
-import JobSearch.Services.GeocodingService;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 @Component
 public class JobMapper {
 
-    private final CompanyRepository companyRepository;
-    private final LocationRepository locationRepository;
-    private final CategoryRepository categoryRepository;
-    private final GeocodingService geocodingService;
+    private final DimensionResolver dimensionResolver;
 
-    public JobMapper(CompanyRepository companyRepository,
-                     LocationRepository locationRepository,
-                     CategoryRepository categoryRepository,
-                     GeocodingService geocodingService) {
-        this.companyRepository = companyRepository;
-        this.locationRepository = locationRepository;
-        this.categoryRepository = categoryRepository;
-        this.geocodingService = geocodingService;
+    public JobMapper(DimensionResolver dimensionResolver) {
+        this.dimensionResolver = dimensionResolver;
     }
 
     /**
@@ -39,32 +27,36 @@ public class JobMapper {
     public JobEntity toEntity(JobDto dto) {
         if (dto == null) return null;
 
-        // Look up or create Company
-        Long companyId = null;
-        if (dto.getCompanyName() != null && !dto.getCompanyName().isBlank()) {
-            companyId = findOrCreateCompany(dto.getCompanyName());
-        }
+        return toEntities(List.of(dto)).get(0);
+    }
 
-        // Look up or create Location
-        Long locationId = null;
-        if (dto.getLocationName() != null && !dto.getLocationName().isBlank()) {
-            locationId = findOrCreateLocation(dto.getLocationName());
-        }
+    /**
+     * Convert a page of JobDtos to JobEntities.
+     * Companies, Locations and Categories for the whole page are resolved together,
+     * so the number of statements does not grow with the number of jobs.
+     * IMPORTANT: This method must be called within a transaction.
+     */
+    @Transactional
+    public List<JobEntity> toEntities(List<JobDto> dtos) {
+        ResolvedDimensions dimensions = dimensionResolver.resolve(dtos);
 
-        // Look up or create Category
-        Long categoryId = null;
-        if (dto.getCategoryTag() != null && !dto.getCategoryTag().isBlank()) {
-            categoryId = findOrCreateCategory(dto.getCategoryTag());
-        }
+        return dtos.stream()
+                .map(dto -> toEntity(dto, dimensions))
+                .collect(Collectors.toList());
+    }
 
+    /**
+     * Build a JobEntity from a JobDto using already-resolved dimension ids
+     */
+    private JobEntity toEntity(JobDto dto, ResolvedDimensions dimensions) {
         // Don't set id - let database generate it to avoid optimistic locking conflicts
         // The Adzuna API "id" field is mapped to externalId, not the entity's database ID
         return JobEntity.builder()
                 .externalId(dto.getExternalId())
                 .title(dto.getTitle())
-                .companyId(companyId)
-                .locationId(locationId)
-                .categoryId(categoryId)
+                .companyId(dimensions.getCompanyId(dto.getCompanyName()))
+                .locationId(dimensions.getLocationId(dto.getLocationName()))
+                .categoryId(dimensions.getCategoryId(dto.getCategoryTag()))
                 .salaryMin(dto.getSalaryMin())
                 .salaryMax(dto.getSalaryMax())
                 .description(dto.getDescription())
@@ -74,57 +66,6 @@ public class JobMapper {
                 .build();
     }
 
-    /**
-     * Find or create a Company by name
-     */
-    private Long findOrCreateCompany(String name) {
-        return companyRepository.findByName(name)
-                .map(Company::getId)
-                .orElseGet(() -> {
-                    Company company = Company.builder()
-                            .name(name)
-                            .build();
-                    return companyRepository.save(company).getId();
-                });
-    }
-
-    /**
-     * Find or create a Location by display name
-     * Geocodes the location to get latitude/longitude coordinates
-     */
-    private Long findOrCreateLocation(String displayName) {
-        return locationRepository.findByDisplayName(displayName)
-                .map(Location::getId)
-                .orElseGet(() -> {
-                    // Try to geocode the location to get coordinates
-                    GeocodingService.Coordinates coords = geocodingService.geocode(displayName);
-
-                    Location location = Location.builder()
-                            .displayName(displayName)
-                            .country("US")
-                            .latitude(coords != null ? coords.getLatitude() : null)
-                            .longitude(coords != null ? coords.getLongitude() : null)
-                            .build();
-                    return locationRepository.save(location).getId();
-                });
-    }
-
-    /**
-     * Find or create a Category by tag
-     */
-    private Long findOrCreateCategory(String tag) {
-        return categoryRepository.findByTag(tag)
-                .map(Category::getId)
-                .orElseGet(() -> {
-                    // Use tag as name if we don't have a separate name
-                    Category category = Category.builder()
-                            .tag(tag)
-                            .name(tag.replace("-", " ").toUpperCase())
-                            .build();
-                    return categoryRepository.save(category).getId();
-                });
-    }
-
     /**
      * Convert JobEntity to JobDto (for reading from database)
      * Note: This doesn't populate the nested objects fully since we only have IDs
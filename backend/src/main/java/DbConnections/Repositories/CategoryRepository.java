@@ -4,9 +4,16 @@ import DbConnections.DTO.Entities.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     Optional<Category> findByTag(String tag);
+
+    /**
+     * Resolve many category rows in a single IN query
+     */
+    List<Category> findByTagIn(Collection<String> tags);
 }
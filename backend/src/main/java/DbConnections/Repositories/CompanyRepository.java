@@ -4,9 +4,16 @@ import DbConnections.DTO.Entities.Company;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CompanyRepository extends JpaRepository<Company, Long> {
     Optional<Company> findByName(String name);
+
+    /**
+     * Resolve many company rows in a single IN query
+     */
+    List<Company> findByNameIn(Collection<String> names);
 }
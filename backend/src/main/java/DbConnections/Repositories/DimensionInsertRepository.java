@@ -0,0 +1,117 @@
+package DbConnections.Repositories;
+
+import DbConnections.DTO.Entities.Category;
+import DbConnections.DTO.Entities.Location;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC writer for bulk-creating company, location and category rows
+ * Each call is a single INSERT ... SELECT FROM unnest(...) ON CONFLICT DO NOTHING,
+ * relying on the UNIQUE columns in schema.sql to skip rows another transaction already created.
+ * Rows skipped by a conflict are not returned and must be re-read by the caller.
+ */
+@Repository
+public class DimensionInsertRepository {
+
+    private static final String INSERT_COMPANIES_SQL =
+            "INSERT INTO companies (name) SELECT unnest(?::varchar[]) " +
+            "ON CONFLICT DO NOTHING RETURNING id, name";
+
+    private static final String INSERT_LOCATIONS_SQL =
+            "INSERT INTO locations (display_name, country, latitude, longitude) " +
+            "SELECT * FROM unnest(?::varchar[], ?::varchar[], ?::float8[], ?::float8[]) " +
+            "ON CONFLICT DO NOTHING RETURNING id, display_name";
+
+    private static final String INSERT_CATEGORIES_SQL =
+            "INSERT INTO categories (tag, name) SELECT * FROM unnest(?::varchar[], ?::varchar[]) " +
+            "ON CONFLICT DO NOTHING RETURNING id, tag";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DimensionInsertRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insert companies by name
+     * @return Map of name to id for the rows that were actually inserted
+     */
+    public Map<String, Long> insertCompanies(Collection<String> names) {
+        if (names.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        return insertReturningKeys(INSERT_COMPANIES_SQL, "name", (connection, ps) ->
+                ps.setArray(1, varcharArray(connection, names.toArray())));
+    }
+
+    /**
+     * Insert locations (display name, country and optional coordinates)
+     * @return Map of display name to id for the rows that were actually inserted
+     */
+    public Map<String, Long> insertLocations(List<Location> locations) {
+        if (locations.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        return insertReturningKeys(INSERT_LOCATIONS_SQL, "display_name", (connection, ps) -> {
+            ps.setArray(1, varcharArray(connection, locations.stream().map(Location::getDisplayName).toArray()));
+            ps.setArray(2, varcharArray(connection, locations.stream().map(Location::getCountry).toArray()));
+            ps.setArray(3, connection.createArrayOf("float8", locations.stream().map(Location::getLatitude).toArray()));
+            ps.setArray(4, connection.createArrayOf("float8", locations.stream().map(Location::getLongitude).toArray()));
+        });
+    }
+
+    /**
+     * Insert categories (tag and display name)
+     * @return Map of tag to id for the rows that were actually inserted
+     */
+    public Map<String, Long> insertCategories(List<Category> categories) {
+        if (categories.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        return insertReturningKeys(INSERT_CATEGORIES_SQL, "tag", (connection, ps) -> {
+            ps.setArray(1, varcharArray(connection, categories.stream().map(Category::getTag).toArray()));
+            ps.setArray(2, varcharArray(connection, categories.stream().map(Category::getName).toArray()));
+        });
+    }
+
+    /**
+     * Run an INSERT ... RETURNING id, key statement and collect key -> id
+     */
+    private Map<String, Long> insertReturningKeys(String sql, String keyColumn, ArrayBinder binder) {
+        Map<String, Long> inserted = new HashMap<>();
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement ps = connection.prepareStatement(sql);
+                    binder.bind(connection, ps);
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> inserted.put(rs.getString(keyColumn), rs.getLong("id")));
+        return inserted;
+    }
+
+    private Array varcharArray(Connection connection, Object[] values) throws SQLException {
+        return connection.createArrayOf("varchar", values);
+    }
+
+    /**
+     * Binds array parameters onto a prepared statement
+     */
+    @FunctionalInterface
+    private interface ArrayBinder {
+        void bind(Connection connection, PreparedStatement ps) throws SQLException;
+    }
+}
@@ -0,0 +1,29 @@
+package DbConnections.Repositories;
+
+import DbConnections.DTO.Entities.GeocodedPlace;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface GeocodedPlaceRepository extends JpaRepository<GeocodedPlace, String> {
+
+    /**
+     * Store or refresh the coordinates for a search input
+     * Concurrent lookups of the same input both succeed; the last write wins
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO geocoded_places (search_text, latitude, longitude, display_name) " +
+           "VALUES (:searchText, :latitude, :longitude, :displayName) " +
+           "ON CONFLICT (search_text) DO UPDATE SET latitude = EXCLUDED.latitude, " +
+           "longitude = EXCLUDED.longitude, display_name = EXCLUDED.display_name, geocoded_at = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    int upsert(@Param("searchText") String searchText,
+               @Param("latitude") double latitude,
+               @Param("longitude") double longitude,
+               @Param("displayName") String displayName);
+}
@@ -0,0 +1,98 @@
+package DbConnections.Repositories;
+
+import DbConnections.DTO.Entities.JobEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC writer for ingesting jobs in bulk
+ * Inserts a whole page of jobs with a single multi-row INSERT ... ON CONFLICT DO NOTHING,
+ * so duplicates are resolved by the UNIQUE constraints on jobs instead of a read-then-write check
+ */
+@Repository
+public class JobInsertRepository {
+
+    /**
+     * Rows per INSERT statement - keeps bind parameters well below the PostgreSQL limit
+     */
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO jobs (external_id, title, company_id, location_id, category_id, salary_min, salary_max, " +
+            "description, job_url, source, created_date, date_found, apply_by) VALUES ";
+
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, COALESCE(?, CURRENT_TIMESTAMP), ?)";
+
+    private static final String INSERT_SUFFIX = " ON CONFLICT DO NOTHING RETURNING id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JobInsertRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insert jobs, silently skipping any that conflict with an existing row
+     * @param jobs The jobs to insert
+     * @return IDs of the rows that were actually inserted
+     */
+    public List<Long> insertIgnoringDuplicates(List<JobEntity> jobs) {
+        List<Long> insertedIds = new ArrayList<>();
+
+        for (int start = 0; start < jobs.size(); start += MAX_ROWS_PER_STATEMENT) {
+            List<JobEntity> chunk = jobs.subList(start, Math.min(start + MAX_ROWS_PER_STATEMENT, jobs.size()));
+            insertedIds.addAll(jdbcTemplate.query(
+                    connection -> {
+                        PreparedStatement ps = connection.prepareStatement(buildInsertSql(chunk.size()));
+                        bindJobs(ps, chunk);
+                        return ps;
+                    },
+                    (rs, rowNum) -> rs.getLong("id")));
+        }
+
+        return insertedIds;
+    }
+
+    /**
+     * Build a multi-row INSERT statement for the given number of rows
+     */
+    private String buildInsertSql(int rowCount) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDERS);
+        }
+        return sql.append(INSERT_SUFFIX).toString();
+    }
+
+    /**
+     * Bind every job's columns in placeholder order
+     */
+    private void bindJobs(PreparedStatement ps, List<JobEntity> jobs) throws SQLException {
+        int index = 1;
+        for (JobEntity job : jobs) {
+            ps.setString(index++, job.getExternalId());
+            ps.setString(index++, job.getTitle());
+            ps.setObject(index++, job.getCompanyId(), Types.BIGINT);
+            ps.setObject(index++, job.getLocationId(), Types.BIGINT);
+            ps.setObject(index++, job.getCategoryId(), Types.BIGINT);
+            ps.setBigDecimal(index++, job.getSalaryMin());
+            ps.setBigDecimal(index++, job.getSalaryMax());
+            ps.setString(index++, job.getDescription());
+            ps.setString(index++, job.getJobUrl());
+            ps.setString(index++, job.getSource());
+            ps.setTimestamp(index++, job.getCreatedDate() != null ? Timestamp.valueOf(job.getCreatedDate()) : null);
+            ps.setTimestamp(index++, job.getDateFound() != null ? Timestamp.valueOf(job.getDateFound()) : null);
+            ps.setObject(index++, job.getApplyBy(), Types.DATE);
+        }
+    }
+}
@@ -6,8 +6,13 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Job Search Domain Repositories
@@ -21,36 +26,300 @@ import java.util.Optional;
 
 @Repository
 public interface JobRepository extends JpaRepository<JobEntity, Long> {
+
+    /**
+     * Locations within the search radius with their distance in miles, as resolved by LocationIndex
+     * Shared by the distance queries below. :nearbyLocationIds and :nearbyDistances are parallel
+     * comma-separated lists ('' for none); jobs are joined to them via idx_jobs_location.
+     */
+    String NEARBY_LOCATIONS_CTE = "WITH nearby AS ( " +
+            "  SELECT CAST(x.id AS bigint) AS id, CAST(x.distance_miles AS double precision) AS distance_miles " +
+            "  FROM unnest(string_to_array(:nearbyLocationIds, ','), string_to_array(:nearbyDistances, ',')) " +
+            "       AS x(id, distance_miles)) ";
+
+    /** Query terms matched as a case-insensitive substring of title or description */
+    String LIKE_MATCH = "(j.title ILIKE CONCAT('%', :query, '%') OR j.description ILIKE CONCAT('%', :query, '%')) ";
+
+    /** Query terms matched against the full-text search_vector column */
+    String FULL_TEXT_MATCH = "j.search_vector @@ websearch_to_tsquery('english', :query) ";
+
+    /** Location display name filter; jobs without a location are kept */
+    String LOCATION_NAME_MATCH = "(l.display_name IS NULL OR l.display_name ILIKE CONCAT('%', :location, '%')) ";
+
+    /** Within the radius, or not (yet) geocoded; expects locations l and nearby n to be LEFT JOINed */
+    String WITHIN_DISTANCE_OR_UNLOCATED = "(n.id IS NOT NULL " +
+            "OR l.id IS NULL OR l.latitude IS NULL OR l.longitude IS NULL) ";
+
+    /**
+     * User filters: no excluded term in title/description, created in [createdFrom, createdBefore)
+     * :excludedTerms is a comma-separated list of LIKE-escaped terms ('' for none)
+     */
+    String MATCHES_FILTERS = "NOT EXISTS (SELECT 1 FROM unnest(string_to_array(:excludedTerms, ',')) AS x(term) " +
+            "  WHERE j.title ILIKE '%' || x.term || '%' OR j.description ILIKE '%' || x.term || '%') " +
+            "AND j.created_date >= :createdFrom AND j.created_date < :createdBefore ";
+
+    /**
+     * Columns of the JobSummary projection: everything a result list shows, with the description
+     * cut down to its first 1000 characters so the full TEXT column is never read or shipped for
+     * list views. The prefix is raw HTML; JobSearchService turns it into a plain-text snippet.
+     */
+    String SUMMARY_COLUMNS = "j.id AS \"id\", j.external_id AS \"externalId\", j.title AS \"title\", " +
+            "j.company_id AS \"companyId\", j.location_id AS \"locationId\", j.category_id AS \"categoryId\", " +
+            "j.salary_min AS \"salaryMin\", j.salary_max AS \"salaryMax\", " +
+            "LEFT(j.description, 1000) AS \"snippet\", j.job_url AS \"jobUrl\", j.source AS \"source\", " +
+            "j.created_date AS \"createdDate\", j.date_found AS \"dateFound\", j.apply_by AS \"applyBy\" ";
+
+    /** Distance column for searches without a center point */
+    String NO_DISTANCE = ", CAST(NULL AS double precision) AS \"distanceMiles\" ";
+
+    /** Keyset condition: rows strictly after the cursor in (created_date DESC, id DESC) order */
+    String AFTER_CURSOR = "(j.created_date, j.id) < (:cursorDate, :cursorId) ";
+
+    /** Newest-first order, served by idx_jobs_created_date_id */
+    String NEWEST_FIRST_ORDER = "ORDER BY j.created_date DESC, j.id DESC ";
+
+    /** Keyset page order */
+    String NEWEST_FIRST = NEWEST_FIRST_ORDER + "LIMIT :limit";
+
     Optional<JobEntity> findByExternalId(String externalId);
 
+    /**
+     * Resolve which of the given external IDs are already stored
+     * Used to dedup a whole page of API results in a single query
+     */
+    @Query("SELECT j.externalId FROM JobEntity j WHERE j.externalId IN :externalIds")
+    Set<String> findExistingExternalIds(@Param("externalIds") Collection<String> externalIds);
+
     /**
      * Search for jobs by query terms in title/description and location
-     * Uses case-insensitive matching
+     * Uses case-insensitive substring matching (ILIKE), which can use the optional pg_trgm
+     * GIN indexes from init/optional/jobs_trigram_search.sql
      * Note: Uses LEFT JOIN to include jobs even if location is missing
      */
-    @Query("SELECT DISTINCT j FROM JobEntity j " +
-           "LEFT JOIN Location l ON j.locationId = l.id " +
-           "WHERE (LOWER(j.title) LIKE LOWER(CONCAT('%', :query, '%')) " +
-           "   OR LOWER(j.description) LIKE LOWER(CONCAT('%', :query, '%'))) " +
-           "AND (l.displayName IS NULL OR LOWER(l.displayName) LIKE LOWER(CONCAT('%', :location, '%')))")
-    List<JobEntity> findByQueryAndLocation(@Param("query") String query, @Param("location") String location);
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + NO_DISTANCE + "FROM jobs j " +
+           "LEFT JOIN locations l ON j.location_id = l.id " +
+           "WHERE " + LIKE_MATCH + "AND " + LOCATION_NAME_MATCH + "AND " + MATCHES_FILTERS,
+           nativeQuery = true)
+    List<JobSummary> findByQueryAndLocation(@Param("query") String query,
+                                            @Param("location") String location,
+                                            @Param("excludedTerms") String excludedTerms,
+                                            @Param("createdFrom") LocalDateTime createdFrom,
+                                            @Param("createdBefore") LocalDateTime createdBefore);
 
     /**
      * Search for jobs by query and geographic distance from a center point
-     * Uses Haversine formula to calculate distance in miles
-     * Only returns jobs within the specified distance radius
-     */
-    @Query(value = "SELECT DISTINCT j.* FROM jobs j " +
-           "LEFT JOIN locations l ON j.location_id = l.id " +
-           "WHERE (LOWER(j.title) LIKE LOWER(CONCAT('%', :query, '%')) " +
-           "   OR LOWER(j.description) LIKE LOWER(CONCAT('%', :query, '%'))) " +
-           "AND (l.latitude IS NULL OR l.longitude IS NULL OR " +
-           "     (3959 * acos(cos(radians(:centerLat)) * cos(radians(l.latitude)) * " +
-           "      cos(radians(l.longitude) - radians(:centerLon)) + " +
-           "      sin(radians(:centerLat)) * sin(radians(l.latitude)))) <= :distanceMiles)",
-           nativeQuery = true)
-    List<JobEntity> findByQueryAndDistance(@Param("query") String query,
-                                           @Param("centerLat") double centerLat,
-                                           @Param("centerLon") double centerLon,
-                                           @Param("distanceMiles") int distanceMiles);
-}
\ No newline at end of file
+     * The nearby locations and their distances come from LocationIndex; jobs are joined to them
+     * via idx_jobs_location, so no distance is computed in the database.
+     * Jobs without a geocoded location are still included, with a null distance.
+     * Returns job summaries with their distance, nearest first.
+     * Query terms are matched with ILIKE, like findByQueryAndLocation
+     */
+    @Query(value = NEARBY_LOCATIONS_CTE +
+           "SELECT " + SUMMARY_COLUMNS + ", n.distance_miles AS \"distanceMiles\" FROM jobs j " +
+           "JOIN nearby n ON j.location_id = n.id " +
+           "WHERE " + LIKE_MATCH + "AND " + MATCHES_FILTERS +
+           "UNION ALL " +
+           "SELECT " + SUMMARY_COLUMNS + ", NULL AS \"distanceMiles\" FROM jobs j " +
+           "LEFT JOIN locations l ON j.location_id = l.id " +
+           "WHERE (l.id IS NULL OR l.latitude IS NULL OR l.longitude IS NULL) " +
+           "AND " + LIKE_MATCH + "AND " + MATCHES_FILTERS +
+           "ORDER BY \"distanceMiles\" NULLS LAST, \"id\" DESC",
+           nativeQuery = true)
+    List<JobSummary> findByQueryAndDistance(@Param("query") String query,
+                                            @Param("nearbyLocationIds") String nearbyLocationIds,
+                                            @Param("nearbyDistances") String nearbyDistances,
+                                            @Param("excludedTerms") String excludedTerms,
+                                            @Param("createdFrom") LocalDateTime createdFrom,
+                                            @Param("createdBefore") LocalDateTime createdBefore);
+
+    /**
+     * Full-text search for jobs by query terms and location, most relevant first
+     * Uses the GIN-indexed jobs.search_vector column (init/schema_001_jobs_full_text_search.sql)
+     * Query is parsed with websearch_to_tsquery, so quoted phrases, OR and -term are supported
+     */
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + NO_DISTANCE + "FROM jobs j " +
+           "LEFT JOIN locations l ON j.location_id = l.id " +
+           "WHERE " + FULL_TEXT_MATCH + "AND " + LOCATION_NAME_MATCH + "AND " + MATCHES_FILTERS +
+           "ORDER BY ts_rank(j.search_vector, websearch_to_tsquery('english', :query)) DESC, j.id DESC",
+           nativeQuery = true)
+    List<JobSummary> searchByQueryAndLocation(@Param("query") String query,
+                                              @Param("location") String location,
+                                              @Param("excludedTerms") String excludedTerms,
+                                              @Param("createdFrom") LocalDateTime createdFrom,
+                                              @Param("createdBefore") LocalDateTime createdBefore);
+
+    /**
+     * Full-text search for jobs by query terms within a distance of a center point
+     * Same nearby-location join and result shape as findByQueryAndDistance, nearest first
+     * Uses the GIN-indexed jobs.search_vector column
+     */
+    @Query(value = NEARBY_LOCATIONS_CTE +
+           "SELECT " + SUMMARY_COLUMNS + ", n.distance_miles AS \"distanceMiles\" FROM jobs j " +
+           "JOIN nearby n ON j.location_id = n.id " +
+           "WHERE " + FULL_TEXT_MATCH + "AND " + MATCHES_FILTERS +
+           "UNION ALL " +
+           "SELECT " + SUMMARY_COLUMNS + ", NULL AS \"distanceMiles\" FROM jobs j " +
+           "LEFT JOIN locations l ON j.location_id = l.id " +
+           "WHERE (l.id IS NULL OR l.latitude IS NULL OR l.longitude IS NULL) " +
+           "AND " + FULL_TEXT_MATCH + "AND " + MATCHES_FILTERS +
+           "ORDER BY \"distanceMiles\" NULLS LAST, \"id\" DESC",
+           nativeQuery = true)
+    List<JobSummary> searchByQueryAndDistance(@Param("query") String query,
+                                              @Param("nearbyLocationIds") String nearbyLocationIds,
+                                              @Param("nearbyDistances") String nearbyDistances,
+                                              @Param("excludedTerms") String excludedTerms,
+                                              @Param("createdFrom") LocalDateTime createdFrom,
+                                              @Param("createdBefore") LocalDateTime createdBefore);
+
+    // ============================================
+    // KEYSET-PAGINATED SEARCH
+    // Each method returns at most :limit rows after (cursorDate, cursorId), newest first,
+    // so a page costs the same no matter how deep into the results it is.
+    // ============================================
+
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + NO_DISTANCE + "FROM jobs j " +
+           "LEFT JOIN locations l ON j.location_id = l.id " +
+           "WHERE " + LIKE_MATCH + "AND " + LOCATION_NAME_MATCH + "AND " + MATCHES_FILTERS +
+           "AND " + AFTER_CURSOR + NEWEST_FIRST,
+           nativeQuery = true)
+    List<JobSummary> findPageByQueryAndLocation(@Param("query") String query,
+                                                @Param("location") String location,
+                                                @Param("excludedTerms") String excludedTerms,
+                                                @Param("createdFrom") LocalDateTime createdFrom,
+                                                @Param("createdBefore") LocalDateTime createdBefore,
+                                                @Param("cursorDate") LocalDateTime cursorDate,
+                                                @Param("cursorId") long cursorId,
+                                                @Param("limit") int limit);
+
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + NO_DISTANCE + "FROM jobs j " +
+           "LEFT JOIN locations l ON j.location_id = l.id " +
+           "WHERE " + FULL_TEXT_MATCH + "AND " + LOCATION_NAME_MATCH + "AND " + MATCHES_FILTERS +
+           "AND " + AFTER_CURSOR + NEWEST_FIRST,
+           nativeQuery = true)
+    List<JobSummary> searchPageByQueryAndLocation(@Param("query") String query,
+                                                  @Param("location") String location,
+                                                  @Param("excludedTerms") String excludedTerms,
+                                                  @Param("createdFrom") LocalDateTime createdFrom,
+                                                  @Param("createdBefore") LocalDateTime createdBefore,
+                                                  @Param("cursorDate") LocalDateTime cursorDate,
+                                                  @Param("cursorId") long cursorId,
+                                                  @Param("limit") int limit);
+
+    @Query(value = NEARBY_LOCATIONS_CTE +
+           "SELECT " + SUMMARY_COLUMNS + ", n.distance_miles AS \"distanceMiles\" FROM jobs j " +
+           "LEFT JOIN locations l ON j.location_id = l.id " +
+           "LEFT JOIN nearby n ON j.location_id = n.id " +
+           "WHERE " + WITHIN_DISTANCE_OR_UNLOCATED + "AND " + LIKE_MATCH + "AND " + MATCHES_FILTERS +
+           "AND " + AFTER_CURSOR + NEWEST_FIRST,
+           nativeQuery = true)
+    List<JobSummary> findPageByQueryAndDistance(@Param("query") String query,
+                                                @Param("nearbyLocationIds") String nearbyLocationIds,
+                                                @Param("nearbyDistances") String nearbyDistances,
+                                                @Param("excludedTerms") String excludedTerms,
+                                                @Param("createdFrom") LocalDateTime createdFrom,
+                                                @Param("createdBefore") LocalDateTime createdBefore,
+                                                @Param("cursorDate") LocalDateTime cursorDate,
+                                                @Param("cursorId") long cursorId,
+                                                @Param("limit") int limit);
+
+    @Query(value = NEARBY_LOCATIONS_CTE +
+           "SELECT " + SUMMARY_COLUMNS + ", n.distance_miles AS \"distanceMiles\" FROM jobs j " +
+           "LEFT JOIN locations l ON j.location_id = l.id " +
+           "LEFT JOIN nearby n ON j.location_id = n.id " +
+           "WHERE " + WITHIN_DISTANCE_OR_UNLOCATED + "AND " + FULL_TEXT_MATCH + "AND " + MATCHES_FILTERS +
+           "AND " + AFTER_CURSOR + NEWEST_FIRST,
+           nativeQuery = true)
+    List<JobSummary> searchPageByQueryAndDistance(@Param("query") String query,
+                                                  @Param("nearbyLocationIds") String nearbyLocationIds,
+                                                  @Param("nearbyDistances") String nearbyDistances,
+                                                  @Param("excludedTerms") String excludedTerms,
+                                                  @Param("createdFrom") LocalDateTime createdFrom,
+                                                  @Param("createdBefore") LocalDateTime createdBefore,
+                                                  @Param("cursorDate") LocalDateTime cursorDate,
+                                                  @Param("cursorId") long cursorId,
+                                                  @Param("limit") int limit);
+
+    // Total matches for the paginated searches above; only run for the first page of a search
+
+    @Query(value = "SELECT count(*) FROM jobs j " +
+           "LEFT JOIN locations l ON j.location_id = l.id " +
+           "WHERE " + LIKE_MATCH + "AND " + LOCATION_NAME_MATCH + "AND " + MATCHES_FILTERS,
+           nativeQuery = true)
+    long countByQueryAndLocation(@Param("query") String query,
+                                 @Param("location") String location,
+                                 @Param("excludedTerms") String excludedTerms,
+                                 @Param("createdFrom") LocalDateTime createdFrom,
+                                 @Param("createdBefore") LocalDateTime createdBefore);
+
+    @Query(value = "SELECT count(*) FROM jobs j " +
+           "LEFT JOIN locations l ON j.location_id = l.id " +
+           "WHERE " + FULL_TEXT_MATCH + "AND " + LOCATION_NAME_MATCH + "AND " + MATCHES_FILTERS,
+           nativeQuery = true)
+    long countSearchByQueryAndLocation(@Param("query") String query,
+                                       @Param("location") String location,
+                                       @Param("excludedTerms") String excludedTerms,
+                                       @Param("createdFrom") LocalDateTime createdFrom,
+                                       @Param("createdBefore") LocalDateTime createdBefore);
+
+    @Query(value = NEARBY_LOCATIONS_CTE +
+           "SELECT count(*) FROM jobs j " +
+           "LEFT JOIN locations l ON j.location_id = l.id " +
+           "LEFT JOIN nearby n ON j.location_id = n.id " +
+           "WHERE " + WITHIN_DISTANCE_OR_UNLOCATED + "AND " + LIKE_MATCH + "AND " + MATCHES_FILTERS,
+           nativeQuery = true)
+    long countByQueryAndDistance(@Param("query") String query,
+                                 @Param("nearbyLocationIds") String nearbyLocationIds,
+                                 @Param("nearbyDistances") String nearbyDistances,
+                                 @Param("excludedTerms") String excludedTerms,
+                                 @Param("createdFrom") LocalDateTime createdFrom,
+                                 @Param("createdBefore") LocalDateTime createdBefore);
+
+    @Query(value = NEARBY_LOCATIONS_CTE +
+           "SELECT count(*) FROM jobs j " +
+           "LEFT JOIN locations l ON j.location_id = l.id " +
+           "LEFT JOIN nearby n ON j.location_id = n.id " +
+           "WHERE " + WITHIN_DISTANCE_OR_UNLOCATED + "AND " + FULL_TEXT_MATCH + "AND " + MATCHES_FILTERS,
+           nativeQuery = true)
+    long countSearchByQueryAndDistance(@Param("query") String query,
+                                       @Param("nearbyLocationIds") String nearbyLocationIds,
+                                       @Param("nearbyDistances") String nearbyDistances,
+                                       @Param("excludedTerms") String excludedTerms,
+                                       @Param("createdFrom") LocalDateTime createdFrom,
+                                       @Param("createdBefore") LocalDateTime createdBefore);
+
+    /**
+     * List view of a job (no full description), with its distance in miles from the search center
+     * distanceMiles is null for non-distance searches and for jobs without coordinates
+     */
+    interface JobSummary {
+        Long getId();
+
+        String getExternalId();
+
+        String getTitle();
+
+        Long getCompanyId();
+
+        Long getLocationId();
+
+        Long getCategoryId();
+
+        BigDecimal getSalaryMin();
+
+        BigDecimal getSalaryMax();
+
+        String getSnippet();
+
+        String getJobUrl();
+
+        String getSource();
+
+        LocalDateTime getCreatedDate();
+
+        LocalDateTime getDateFound();
+
+        LocalDate getApplyBy();
+
+        Double getDistanceMiles();
+    }
+}
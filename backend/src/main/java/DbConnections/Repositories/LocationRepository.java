@@ -1,12 +1,50 @@
 package DbConnections.Repositories;
 
 import DbConnections.DTO.Entities.Location;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LocationRepository extends JpaRepository<Location, Long> {
     Optional<Location> findByDisplayName(String displayName);
+
+    /**
+     * Locations whose display name matches case-insensitively, served by idx_locations_display_name_lower
+     */
+    @Query("SELECT l FROM Location l WHERE lower(l.displayName) = lower(:displayName)")
+    List<Location> findByDisplayNameIgnoringCase(@Param("displayName") String displayName);
+
+    /**
+     * Resolve many location rows in a single IN query
+     */
+    List<Location> findByDisplayNameIn(Collection<String> displayNames);
+
+    /**
+     * Find locations that have not been geocoded yet
+     */
+    List<Location> findByLatitudeIsNull(Pageable pageable);
+
+    /**
+     * All geocoded locations, used to build the in-memory LocationIndex
+     */
+    List<Location> findByLatitudeIsNotNullAndLongitudeIsNotNull();
+
+    /**
+     * Fill in coordinates for a location once it has been geocoded
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Location l SET l.latitude = :latitude, l.longitude = :longitude WHERE l.id = :id")
+    int updateCoordinates(@Param("id") Long id,
+                          @Param("latitude") Double latitude,
+                          @Param("longitude") Double longitude);
 }
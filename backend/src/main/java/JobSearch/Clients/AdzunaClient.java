@@ -1,15 +1,30 @@
 package JobSearch.Clients;
 
+import DbConnections.DTO.JobDto;
 import DbConnections.DTO.SearchParamsDto;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
-
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * Adzuna job search client
+ * All requests go through a shared token-bucket rate limiter, so concurrent
+ * page fetches and searches together stay within the Adzuna request rate
  */
 public class AdzunaClient extends Client {
 
@@ -17,13 +32,18 @@ public class AdzunaClient extends Client {
     private final String baseUrl;
     private final String apiKey;
     private final String apiId;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
 
 
-    public AdzunaClient(RestTemplate restTemplate, String baseUrl, String apiKey, String apiId) {
+    public AdzunaClient(RestTemplate restTemplate, String baseUrl, String apiKey, String apiId,
+                        TokenBucketRateLimiter rateLimiter, ObjectMapper objectMapper) {
         this.restTemplate = restTemplate;
         this.baseUrl = baseUrl;
         this.apiKey = apiKey;
         this.apiId = apiId;
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
     }
 
     @Override
@@ -48,6 +68,7 @@ public class AdzunaClient extends Client {
     @Override
     public ResponseEntity<String> getResponseEntity(SearchParamsDto searchParamsDto) {
         URI uri = buildUri(searchParamsDto);
+        acquireRateLimitPermit();
         try {
             return restTemplate.getForEntity(uri, String.class);
         } catch (HttpClientErrorException e) {
@@ -55,4 +76,72 @@ public class AdzunaClient extends Client {
             throw e;
         }
     }
+
+    /**
+     * Streams a page of search results, handing each job to the consumer as soon as it is parsed
+     * The response body is read with Jackson's streaming parser straight from the connection,
+     * so neither the raw body nor a JsonNode tree of the page is ever held in memory.
+     * A malformed body stops parsing; jobs already emitted are kept.
+     *
+     * @return total result count reported by Adzuna, or null if the response did not include one
+     */
+    public Long streamJobs(SearchParamsDto searchParamsDto, Consumer<JobDto> jobConsumer) {
+        URI uri = buildUri(searchParamsDto);
+        acquireRateLimitPermit();
+        try {
+            return restTemplate.execute(uri, HttpMethod.GET,
+                    request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                    response -> readSearchResults(response, jobConsumer));
+        } catch (HttpClientErrorException e) {
+            logger.error("Error while calling Adzuna API: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Walk the top-level response object, reading "count" and streaming "results" one job at a time
+     */
+    private Long readSearchResults(ClientHttpResponse response, Consumer<JobDto> jobConsumer) throws IOException {
+        Long totalCount = null;
+
+        try (InputStream body = response.getBody();
+             JsonParser parser = objectMapper.getFactory().createParser(body)) {
+
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                logger.warn("Unexpected Adzuna response: expected a JSON object");
+                return null;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if ("count".equals(field) && value.isNumeric()) {
+                    totalCount = parser.getLongValue();
+                } else if ("results".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        jobConsumer.accept(objectMapper.readValue(parser, JobDto.class));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            logger.error("Error parsing Adzuna response: {}", e.getOriginalMessage());
+        }
+
+        return totalCount;
+    }
+
+    /**
+     * Block until the rate limiter allows another Adzuna request
+     */
+    private void acquireRateLimitPermit() {
+        try {
+            rateLimiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RestClientException("Interrupted while waiting for Adzuna rate limit", e);
+        }
+    }
 }
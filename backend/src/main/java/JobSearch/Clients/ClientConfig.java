@@ -1,26 +1,58 @@
 package JobSearch.Clients;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
 /**
  * job clients configuration
  */
 @Configuration
 public class ClientConfig {
 
+    /**
+     * HTTP client for the Adzuna API, with its own connection pool
+     */
+    @Bean
+    public RestTemplate adzunaRestTemplate(@Value("${adzuna.http.connect-timeout-ms:5000}") long connectTimeoutMs,
+                                           @Value("${adzuna.http.read-timeout-ms:20000}") long readTimeoutMs,
+                                           @Value("${adzuna.http.max-connections-per-host:10}") int maxConnectionsPerHost) {
+        return PooledRestTemplateFactory.create(Duration.ofMillis(connectTimeoutMs),
+                Duration.ofMillis(readTimeoutMs), maxConnectionsPerHost);
+    }
+
+    /**
+     * HTTP client for the geocoding API, pooled separately so a slow geocoder cannot starve Adzuna calls
+     */
+    @Bean
+    public RestTemplate geocodingRestTemplate(@Value("${app.geocoding.http.connect-timeout-ms:3000}") long connectTimeoutMs,
+                                              @Value("${app.geocoding.http.read-timeout-ms:5000}") long readTimeoutMs,
+                                              @Value("${app.geocoding.http.max-connections-per-host:2}") int maxConnectionsPerHost) {
+        return PooledRestTemplateFactory.create(Duration.ofMillis(connectTimeoutMs),
+                Duration.ofMillis(readTimeoutMs), maxConnectionsPerHost);
+    }
+
+    /**
+     * Rate limiter shared by every caller of the Adzuna API
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public TokenBucketRateLimiter adzunaRateLimiter(@Value("${adzuna.rate-limit.requests-per-second:2}") double requestsPerSecond,
+                                                    @Value("${adzuna.rate-limit.burst:2}") int burst) {
+        return new TokenBucketRateLimiter(requestsPerSecond, burst);
     }
 
     @Bean
-    public AdzunaClient adzunaClient(RestTemplate restTemplate,
+    public AdzunaClient adzunaClient(@Qualifier("adzunaRestTemplate") RestTemplate restTemplate,
                                      @Value("${adzuna.base-url}") String baseUrl,
                                      @Value("${adzuna.api-key}") String apiKey,
-                                     @Value("${adzuna.api-id}") String apiId) {
-        return new AdzunaClient(restTemplate, baseUrl, apiKey, apiId);
+                                     @Value("${adzuna.api-id}") String apiId,
+                                     TokenBucketRateLimiter adzunaRateLimiter,
+                                     ObjectMapper objectMapper) {
+        return new AdzunaClient(restTemplate, baseUrl, apiKey, apiId, adzunaRateLimiter, objectMapper);
     }
 }
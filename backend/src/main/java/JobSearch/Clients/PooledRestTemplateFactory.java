@@ -0,0 +1,170 @@
+package JobSearch.Clients;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Builds RestTemplates backed by their own pooled JDK HttpClient
+ * Each RestTemplate gets a separate connection pool with keep-alive connections,
+ * HTTP/2 when the server supports it (falling back to HTTP/1.1), connect/read timeouts,
+ * a cap on concurrent requests per host, and transparent gzip response decompression.
+ */
+public final class PooledRestTemplateFactory {
+
+    private PooledRestTemplateFactory() {
+    }
+
+    /**
+     * Create a RestTemplate with its own connection pool
+     * @param connectTimeout Maximum time to establish a connection
+     * @param readTimeout Maximum time to wait for a response
+     * @param maxConcurrentRequestsPerHost Maximum in-flight requests to any one host
+     */
+    public static RestTemplate create(Duration connectTimeout, Duration readTimeout, int maxConcurrentRequestsPerHost) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.setInterceptors(List.of(
+                new PerHostConcurrencyInterceptor(maxConcurrentRequestsPerHost),
+                new GzipDecompressingInterceptor()));
+        return restTemplate;
+    }
+
+    /**
+     * Limits concurrent requests per host; a permit is held until the response is closed
+     * so streamed responses count against the limit while they are being read
+     */
+    private static class PerHostConcurrencyInterceptor implements ClientHttpRequestInterceptor {
+        private final int maxPerHost;
+        private final Map<String, Semaphore> permitsByHost = new ConcurrentHashMap<>();
+
+        PerHostConcurrencyInterceptor(int maxPerHost) {
+            this.maxPerHost = maxPerHost;
+        }
+
+        @Override
+        public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+            Semaphore permits = permitsByHost.computeIfAbsent(request.getURI().getHost(), host -> new Semaphore(maxPerHost, true));
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted waiting for a connection to " + request.getURI().getHost());
+            }
+
+            try {
+                return new DelegatingResponse(execution.execute(request, body), permits::release);
+            } catch (IOException | RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Asks for gzip-encoded responses and decompresses them before they reach message converters
+     */
+    private static class GzipDecompressingInterceptor implements ClientHttpRequestInterceptor {
+        @Override
+        public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+            request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+            ClientHttpResponse response = execution.execute(request, body);
+
+            String contentEncoding = response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+            if (contentEncoding == null || !contentEncoding.trim().equalsIgnoreCase("gzip")) {
+                return response;
+            }
+
+            HttpHeaders decodedHeaders = new HttpHeaders();
+            decodedHeaders.putAll(response.getHeaders());
+            decodedHeaders.remove(HttpHeaders.CONTENT_ENCODING);
+            decodedHeaders.remove(HttpHeaders.CONTENT_LENGTH);
+            return new DelegatingResponse(response, () -> { }) {
+                private InputStream decodedBody;
+
+                @Override
+                public HttpHeaders getHeaders() {
+                    return decodedHeaders;
+                }
+
+                @Override
+                public InputStream getBody() throws IOException {
+                    if (decodedBody == null) {
+                        decodedBody = new GZIPInputStream(super.getBody());
+                    }
+                    return decodedBody;
+                }
+            };
+        }
+    }
+
+    /**
+     * Response wrapper that runs a callback exactly once when closed
+     */
+    private static class DelegatingResponse implements ClientHttpResponse {
+        private final ClientHttpResponse delegate;
+        private final Runnable onClose;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        DelegatingResponse(ClientHttpResponse delegate, Runnable onClose) {
+            this.delegate = delegate;
+            this.onClose = onClose;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                try {
+                    delegate.close();
+                } finally {
+                    onClose.run();
+                }
+            }
+        }
+    }
+}
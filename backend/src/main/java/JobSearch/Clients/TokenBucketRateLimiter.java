@@ -0,0 +1,78 @@
+package JobSearch.Clients;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread-safe token bucket rate limiter for outbound API calls
+ * Tokens refill continuously at permitsPerSecond up to burstCapacity.
+ * Callers that find the bucket empty reserve a future token and sleep until it is due,
+ * so concurrent callers are served in arrival order without busy waiting.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double permitsPerSecond;
+    private final double burstCapacity;
+    private double availableTokens;
+    private long lastRefillNanos;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burstCapacity) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        if (burstCapacity < 1) {
+            throw new IllegalArgumentException("burstCapacity must be at least 1");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burstCapacity = burstCapacity;
+        this.availableTokens = burstCapacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Take one token, blocking until it is available
+     * @throws InterruptedException if interrupted while waiting; the reserved token is given back
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            refill();
+            availableTokens -= 1;
+            waitNanos = availableTokens >= 0 ? 0 : (long) (-availableTokens / permitsPerSecond * NANOS_PER_SECOND);
+        }
+
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                // Otherwise every later caller waits behind a reservation nobody will use
+                synchronized (this) {
+                    refill();
+                    availableTokens = Math.min(burstCapacity, availableTokens + 1);
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Take one token only if it is available right now
+     * @return true if a token was taken
+     */
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (availableTokens >= 1) {
+            availableTokens -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        double refilled = (now - lastRefillNanos) * permitsPerSecond / NANOS_PER_SECOND;
+        availableTokens = Math.min(burstCapacity, availableTokens + refilled);
+        lastRefillNanos = now;
+    }
+}
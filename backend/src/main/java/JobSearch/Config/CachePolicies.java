@@ -0,0 +1,47 @@
+package JobSearch.Config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Per-cache policies read from app.cache.&lt;cacheName&gt;.* properties
+ *   ttl               - entry TTL (defaults to spring.cache.redis.time-to-live)
+ *   cache-null-values - cache "no result" values (default false)
+ *   null-value-ttl    - TTL of cached "no result" values (defaults to the entry TTL)
+ *   max-entry-bytes   - skip caching larger serialized values (default 0, no limit)
+ *   key-prefix        - prepended to the cache name in Redis keys (default none)
+ */
+@Component
+public class CachePolicies {
+
+    private final Environment environment;
+    private final Duration defaultTtl;
+
+    public CachePolicies(Environment environment,
+                         @Value("${spring.cache.redis.time-to-live:6h}") Duration defaultTtl) {
+        this.environment = environment;
+        this.defaultTtl = defaultTtl;
+    }
+
+    /**
+     * Policy for a cache; settings that are not configured fall back to the defaults
+     */
+    public CachePolicy policy(String cacheName) {
+        String prefix = "app.cache." + cacheName + ".";
+        Duration ttl = environment.getProperty(prefix + "ttl", Duration.class, defaultTtl);
+
+        return new CachePolicy(
+                ttl,
+                environment.getProperty(prefix + "cache-null-values", Boolean.class, false),
+                environment.getProperty(prefix + "null-value-ttl", Duration.class, ttl),
+                environment.getProperty(prefix + "max-entry-bytes", Integer.class, 0),
+                environment.getProperty(prefix + "key-prefix", ""));
+    }
+
+    public Duration getDefaultTtl() {
+        return defaultTtl;
+    }
+}
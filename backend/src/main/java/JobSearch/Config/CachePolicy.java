@@ -0,0 +1,48 @@
+package JobSearch.Config;
+
+import java.time.Duration;
+
+/**
+ * TTL, size, null-caching and key prefix settings for one Redis cache
+ */
+public final class CachePolicy {
+
+    private final Duration ttl;
+    private final boolean cacheNullValues;
+    private final Duration nullValueTtl;
+    private final int maxEntryBytes;
+    private final String keyPrefix;
+
+    CachePolicy(Duration ttl, boolean cacheNullValues, Duration nullValueTtl, int maxEntryBytes, String keyPrefix) {
+        this.ttl = ttl;
+        this.cacheNullValues = cacheNullValues;
+        this.nullValueTtl = nullValueTtl;
+        this.maxEntryBytes = maxEntryBytes;
+        this.keyPrefix = keyPrefix;
+    }
+
+    /** How long a cached value lives in Redis */
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    /** Whether "no result" is cached, so misses are not looked up again */
+    public boolean isCacheNullValues() {
+        return cacheNullValues;
+    }
+
+    /** How long a cached "no result" lives; usually much shorter than the TTL of real values */
+    public Duration getNullValueTtl() {
+        return nullValueTtl;
+    }
+
+    /** Largest serialized value stored in Redis; larger values are not cached. 0 for no limit */
+    public int getMaxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    /** Prepended to the cache name in Redis keys, e.g. "jobhunter:" gives "jobhunter:jobSearch::key" */
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+}
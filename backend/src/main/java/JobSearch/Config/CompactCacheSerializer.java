@@ -0,0 +1,105 @@
+package JobSearch.Config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Binary cache value serializer for caches that hold a single known value type
+ * Values are written as Smile (binary JSON) without per-object type metadata, gzip-compressed
+ * once they exceed a size threshold, inside a small envelope:
+ *   byte 0: format version (FORMAT_V1)
+ *   byte 1: flags (FLAG_GZIP)
+ *   rest:   payload
+ * JSON text never starts with the version byte, so entries written by
+ * GenericJackson2JsonRedisSerializer are still read and switching a cache over needs no Redis flush.
+ */
+public class CompactCacheSerializer implements RedisSerializer<Object> {
+
+    private static final byte FORMAT_V1 = 0x01;
+    private static final byte FLAG_GZIP = 0x01;
+    private static final int HEADER_LENGTH = 2;
+
+    private static final ObjectMapper SMILE_MAPPER = new ObjectMapper(new SmileFactory())
+            .registerModule(new JavaTimeModule())
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final Class<?> type;
+    private final int compressThresholdBytes;
+    private final RedisSerializer<Object> legacySerializer = new GenericJackson2JsonRedisSerializer();
+
+    /**
+     * @param type Type of every value in the cache
+     * @param compressThresholdBytes Payloads larger than this are gzip-compressed
+     */
+    public CompactCacheSerializer(Class<?> type, int compressThresholdBytes) {
+        this.type = type;
+        this.compressThresholdBytes = compressThresholdBytes;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        try {
+            byte[] payload = SMILE_MAPPER.writeValueAsBytes(value);
+            boolean compress = payload.length > compressThresholdBytes;
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(HEADER_LENGTH + payload.length);
+            out.write(FORMAT_V1);
+            out.write(compress ? FLAG_GZIP : 0);
+            if (compress) {
+                try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                    gzip.write(payload);
+                }
+            } else {
+                out.write(payload);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Could not serialize " + type.getSimpleName() + " for cache", e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        if (bytes[0] != FORMAT_V1) {
+            return legacySerializer.deserialize(bytes);
+        }
+
+        if (bytes.length < HEADER_LENGTH) {
+            throw new SerializationException("Truncated cache value");
+        }
+
+        try {
+            InputStream payload = new ByteArrayInputStream(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+            if ((bytes[1] & FLAG_GZIP) != 0) {
+                payload = new GZIPInputStream(payload);
+            }
+            try (InputStream in = payload) {
+                return SMILE_MAPPER.readValue(in, type);
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Could not deserialize cached " + type.getSimpleName(), e);
+        }
+    }
+}
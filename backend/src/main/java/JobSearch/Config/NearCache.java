@@ -0,0 +1,116 @@
+package JobSearch.Config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Cache that keeps an in-process copy of entries in front of a Redis-backed cache
+ * Reads are served from the local copy when present and from Redis otherwise; writes go to
+ * Redis first and then replace the local copy. Every write, evict and clear is published by
+ * NearCacheManager so other instances drop their local copies of the entry.
+ * Local entries are keyed by the same string form RedisCache uses for its keys.
+ */
+class NearCache implements Cache {
+
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local;
+    private final NearCacheManager manager;
+
+    NearCache(Cache remote, com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local, NearCacheManager manager) {
+        this.remote = remote;
+        this.local = local;
+        this.manager = manager;
+    }
+
+    @Override
+    public String getName() {
+        return remote.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        ValueWrapper wrapper = local.getIfPresent(localKey);
+        if (wrapper != null) {
+            return wrapper;
+        }
+
+        wrapper = remote.get(key);
+        if (wrapper != null) {
+            local.put(localKey, wrapper);
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        T value = remote.get(key, valueLoader);
+        local.put(localKey(key), new SimpleValueWrapper(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = localKey(key);
+        remote.put(key, value);
+        local.put(localKey, new SimpleValueWrapper(value));
+        manager.publishEvict(getName(), localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        remote.evict(key);
+        local.invalidate(localKey);
+        manager.publishEvict(getName(), localKey);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        manager.publishClear(getName());
+    }
+
+    /**
+     * Drop the local copy of an entry changed by another instance
+     */
+    void evictLocal(String localKey) {
+        local.invalidate(localKey);
+    }
+
+    /**
+     * Drop all local copies after another instance cleared the cache
+     */
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
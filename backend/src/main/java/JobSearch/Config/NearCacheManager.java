@@ -0,0 +1,136 @@
+package JobSearch.Config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache manager that puts a size- and TTL-bounded in-process cache in front of selected Redis caches
+ * Hot entries are served without a Redis round trip or JSON deserialization. Changes are published
+ * on a Redis channel so every instance drops its local copy; pub/sub delivery is not guaranteed,
+ * so the local TTL is kept short to bound how long a missed invalidation can serve stale data.
+ * Caches not listed as near caches are returned from the Redis cache manager unchanged.
+ */
+public class NearCacheManager implements CacheManager, MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(NearCacheManager.class);
+    public static final String INVALIDATION_CHANNEL = "cache:invalidate";
+    private static final String EVICT = "evict";
+    private static final String CLEAR = "clear";
+
+    private final CacheManager remote;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> nearCacheNames;
+    private final long maxSize;
+    private final Duration ttl;
+
+    // Identifies this instance so it ignores its own invalidation messages
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * @param nearCacheNames Caches that get an in-process copy; empty to disable the near cache
+     * @param maxSize Maximum entries held locally per cache
+     * @param ttl How long a local entry is served before it is re-read from Redis
+     */
+    public NearCacheManager(CacheManager remote,
+                            StringRedisTemplate redisTemplate,
+                            MeterRegistry meterRegistry,
+                            Set<String> nearCacheNames,
+                            long maxSize,
+                            Duration ttl) {
+        this.remote = remote;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.nearCacheNames = Set.copyOf(nearCacheNames);
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remote.getCacheNames();
+    }
+
+    private Cache createCache(String name) {
+        Cache remoteCache = remote.getCache(name);
+        if (remoteCache == null || !nearCacheNames.contains(name)) {
+            return remoteCache;
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<String, Cache.ValueWrapper> local = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "near." + name);
+
+        logger.info("Near cache enabled for '{}' (max {} entries, ttl {})", name, maxSize, ttl);
+        return new NearCache(remoteCache, local, this);
+    }
+
+    /**
+     * Tell other instances to drop their local copy of an entry
+     */
+    void publishEvict(String cacheName, String key) {
+        publish(EVICT + "|" + cacheName + "|" + key);
+    }
+
+    /**
+     * Tell other instances to drop all local copies for a cache
+     */
+    void publishClear(String cacheName) {
+        publish(CLEAR + "|" + cacheName);
+    }
+
+    private void publish(String invalidation) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, instanceId + "|" + invalidation);
+        } catch (RuntimeException e) {
+            logger.warn("Could not publish cache invalidation, other instances expire it after {}: {}", ttl, e.getMessage());
+        }
+    }
+
+    /**
+     * Apply an invalidation published by another instance
+     * Message format: instanceId|evict|cacheName|key or instanceId|clear|cacheName
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 4);
+        if (parts.length < 3 || parts[0].equals(instanceId)) {
+            return;
+        }
+
+        if (!(caches.get(parts[2]) instanceof NearCache cache)) {
+            return;
+        }
+
+        if (EVICT.equals(parts[1]) && parts.length == 4) {
+            cache.evictLocal(parts[3]);
+        } else if (CLEAR.equals(parts[1])) {
+            cache.clearLocal();
+        }
+    }
+}
@@ -1,22 +1,40 @@
 package JobSearch.Config;
 
+import DbConnections.DTO.JobSearchResponseDto;
+import JobSearch.Services.GeocodingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Configuration
 @EnableCaching
 public class RedisConfig {
 
+    // Value type of each known cache; known caches get their own policy and may be stored compactly
+    private static final Map<String, Class<?>> CACHE_VALUE_TYPES = Map.of(
+            "jobSearch", JobSearchResponseDto.class,
+            "geocoding", GeocodingService.Coordinates.class);
+
     @Bean
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
@@ -34,15 +52,95 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * Redis cache manager, with an in-process near cache in front of the configured caches
+     */
+    @Bean
+    public NearCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                         StringRedisTemplate stringRedisTemplate,
+                                         MeterRegistry meterRegistry,
+                                         CachePolicies cachePolicies,
+                                         @Value("${app.cache.near.caches:jobSearch,geocoding}") String[] nearCaches,
+                                         @Value("${app.cache.near.max-size:1000}") long nearMaxSize,
+                                         @Value("${app.cache.near.ttl-seconds:60}") long nearTtlSeconds,
+                                         @Value("${app.cache.compact.caches:jobSearch,geocoding}") String[] compactCaches,
+                                         @Value("${app.cache.compact.compress-threshold-bytes:1024}") int compressThresholdBytes) {
+        RedisCacheManager redisCacheManager = redisCacheManager(connectionFactory, cachePolicies,
+                cacheNames(compactCaches), compressThresholdBytes);
+        return new NearCacheManager(redisCacheManager, stringRedisTemplate, meterRegistry,
+                cacheNames(nearCaches), nearMaxSize, Duration.ofSeconds(nearTtlSeconds));
+    }
+
+    /**
+     * Subscribes the near cache to invalidations published by other instances
+     */
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofHours(24)) // Cache for 24 hours
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            NearCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(NearCacheManager.INVALIDATION_CHANNEL));
+        return container;
+    }
+
+    /**
+     * Redis cache manager applying each known cache's CachePolicy
+     * Values are stored as JSON, except for the caches listed as compact, which use the
+     * binary CompactCacheSerializer for their known value type
+     */
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory,
+                                                CachePolicies cachePolicies,
+                                                Set<String> compactCacheNames,
+                                                int compressThresholdBytes) {
+        for (String cacheName : compactCacheNames) {
+            if (!CACHE_VALUE_TYPES.containsKey(cacheName)) {
+                throw new IllegalArgumentException("No value type registered for compact cache '" + cacheName + "'");
+            }
+        }
+
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(cachePolicies.getDefaultTtl())
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
 
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(config)
+        Map<String, RedisCacheConfiguration> cacheConfigs = new HashMap<>();
+        Map<String, Integer> maxEntryBytes = new HashMap<>();
+        CACHE_VALUE_TYPES.forEach((cacheName, valueType) -> {
+            CachePolicy policy = cachePolicies.policy(cacheName);
+            Duration ttl = policy.getTtl();
+            Duration nullValueTtl = policy.getNullValueTtl();
+
+            RedisCacheConfiguration config = defaults
+                    .entryTtl((key, value) -> value != null ? ttl : nullValueTtl)
+                    .prefixCacheNameWith(policy.getKeyPrefix());
+            if (!policy.isCacheNullValues()) {
+                config = config.disableCachingNullValues();
+            }
+            if (compactCacheNames.contains(cacheName)) {
+                config = config.serializeValuesWith(RedisSerializationContext.SerializationPair
+                        .fromSerializer(new CompactCacheSerializer(valueType, compressThresholdBytes)));
+            }
+            cacheConfigs.put(cacheName, config);
+
+            if (policy.getMaxEntryBytes() > 0) {
+                maxEntryBytes.put(cacheName, policy.getMaxEntryBytes());
+            }
+        });
+
+        RedisCacheWriter cacheWriter = new SizeLimitedRedisCacheWriter(
+                RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory), maxEntryBytes);
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(cacheWriter)
+                .cacheDefaults(defaults)
+                .withInitialCacheConfigurations(cacheConfigs)
                 .build();
+        redisCacheManager.afterPropertiesSet();
+        return redisCacheManager;
+    }
+
+    private static Set<String> cacheNames(String[] names) {
+        return Arrays.stream(names)
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toSet());
     }
 }
@@ -0,0 +1,113 @@
+package JobSearch.Config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Cache writer that refuses to store values above a per-cache serialized size limit
+ * An oversized write also removes the existing entry, so the cache never serves a value
+ * older than the one the caller just tried to store. Caches without a limit pass through.
+ */
+class SizeLimitedRedisCacheWriter implements RedisCacheWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SizeLimitedRedisCacheWriter.class);
+
+    private final RedisCacheWriter delegate;
+    private final Map<String, Integer> maxEntryBytes;
+
+    /**
+     * @param maxEntryBytes Size limit per cache name; caches not in the map are unlimited
+     */
+    SizeLimitedRedisCacheWriter(RedisCacheWriter delegate, Map<String, Integer> maxEntryBytes) {
+        this.delegate = delegate;
+        this.maxEntryBytes = Map.copyOf(maxEntryBytes);
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key) {
+        return delegate.get(name, key);
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key, Duration ttl) {
+        return delegate.get(name, key, ttl);
+    }
+
+    @Override
+    public boolean supportsAsyncRetrieve() {
+        return delegate.supportsAsyncRetrieve();
+    }
+
+    @Override
+    public CompletableFuture<byte[]> retrieve(String name, byte[] key, Duration ttl) {
+        return delegate.retrieve(name, key, ttl);
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, Duration ttl) {
+        if (tooLarge(name, value)) {
+            delegate.remove(name, key);
+            return;
+        }
+        delegate.put(name, key, value, ttl);
+    }
+
+    @Override
+    public CompletableFuture<Void> store(String name, byte[] key, byte[] value, Duration ttl) {
+        if (tooLarge(name, value)) {
+            delegate.remove(name, key);
+            return CompletableFuture.completedFuture(null);
+        }
+        return delegate.store(name, key, value, ttl);
+    }
+
+    @Override
+    public byte[] putIfAbsent(String name, byte[] key, byte[] value, Duration ttl) {
+        if (tooLarge(name, value)) {
+            return delegate.get(name, key);
+        }
+        return delegate.putIfAbsent(name, key, value, ttl);
+    }
+
+    @Override
+    public void remove(String name, byte[] key) {
+        delegate.remove(name, key);
+    }
+
+    @Override
+    public void clean(String name, byte[] pattern) {
+        delegate.clean(name, pattern);
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+        delegate.clearStatistics(name);
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+        return new SizeLimitedRedisCacheWriter(delegate.withStatisticsCollector(cacheStatisticsCollector), maxEntryBytes);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return delegate.getCacheStatistics(cacheName);
+    }
+
+    private boolean tooLarge(String name, byte[] value) {
+        Integer limit = maxEntryBytes.get(name);
+        if (limit == null || value.length <= limit) {
+            return false;
+        }
+
+        logger.info("Not caching {} bytes in '{}', limit is {} bytes", value.length, name, limit);
+        return true;
+    }
+}
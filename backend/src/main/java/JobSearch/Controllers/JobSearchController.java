@@ -1,22 +1,36 @@
 package JobSearch.Controllers;
 
 import DbConnections.DTO.Entities.SavedQuery;
+import DbConnections.DTO.JobResponseDto;
 import DbConnections.DTO.JobSearchResponseDto;
 import DbConnections.Repositories.SavedQueryRepository;
 import JobSearch.Services.Implementations.JobSearchImpl;
 import JobSearch.Services.JobSearchService;
+import JobSearch.Services.SearchRefreshService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.Semaphore;
 
 @RestController
 @RequestMapping("api/jobs")
@@ -25,16 +39,26 @@ import java.util.List;
 public class JobSearchController {
 
     private static final Logger logger = LoggerFactory.getLogger(JobSearchController.class);
+    private static final String NDJSON = "application/x-ndjson";
     private final JobSearchImpl jobSearchImpl;
     private final JobSearchService jobSearchService;
     private final SavedQueryRepository savedQueryRepository;
+    private final SearchRefreshService searchRefreshService;
+    private final ObjectMapper objectMapper;
+    private final Semaphore concurrentStreams;
 
     public JobSearchController(JobSearchImpl jobSearchImpl,
                               JobSearchService jobSearchService,
-                              SavedQueryRepository savedQueryRepository) {
+                              SavedQueryRepository savedQueryRepository,
+                              SearchRefreshService searchRefreshService,
+                              ObjectMapper objectMapper,
+                              @Value("${app.search.stream.max-concurrent:3}") int maxConcurrentStreams) {
         this.jobSearchImpl = jobSearchImpl;
         this.jobSearchService = jobSearchService;
         this.savedQueryRepository = savedQueryRepository;
+        this.searchRefreshService = searchRefreshService;
+        this.objectMapper = objectMapper;
+        this.concurrentStreams = new Semaphore(maxConcurrentStreams);
     }
 
     // ============================================
@@ -42,37 +66,101 @@ public class JobSearchController {
     // ============================================
 
     /**
-     * Search for jobs - Always fetches fresh data from Adzuna API, saves to database,
-     * then queries database with specific search parameters and filters.
+     * Search for jobs - Serves results from the database and refreshes from Adzuna only when stale.
      * Results are cached in Redis for the session.
      *
      * Flow:
-     * 1. Call Adzuna API with query + location (get up-to-date job listings)
-     * 2. Save new jobs to database
-     * 3. Query database for jobs matching search parameters
-     * 4. Apply filters (exclude terms, date range)
-     * 5. Return cached results
+     * 1. Query database for jobs matching search parameters
+     * 2. Apply filters (exclude terms, date range)
+     * 3. If query + location + distance was not fetched within the refresh window,
+     *    refresh from Adzuna in the background and flag the response as stale/refreshing
+     *    (the first search for a tuple with no stored jobs fetches before responding)
+     *
+     * Pagination: pass limit to get one page (newest first) instead of every match.
+     * The response carries nextCursor; pass it back as cursor to get the following page.
+     * totalCount is only computed for the first page.
      */
     @GetMapping("/search")
     public ResponseEntity<JobSearchResponseDto> searchJobs(
+            @RequestParam String query,
+            @RequestParam String location,
+            @RequestParam(required = false, defaultValue = "25") int distance,
+            @RequestParam(required = false) String excludedTerms,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        logger.info("Search request received: query={}, location={}, excludedTerms={}, dateFrom={}, dateTo={}, limit={}",
+                    query, location, excludedTerms, dateFrom, dateTo, limit);
+
+        JobSearchResponseDto response = limit != null
+                ? searchRefreshService.searchPage(query, location, distance, excludedTerms, dateFrom, dateTo, limit, cursor)
+                : searchRefreshService.search(query, location, distance, excludedTerms, dateFrom, dateTo);
+        logger.info("Returning {} jobs matching search criteria (stale={}, refreshing={})",
+                response.getResults().size(), response.isStale(), response.isRefreshing());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Stream every job matching a search as NDJSON (one JSON job per line), newest first
+     * Jobs are written and flushed a batch at a time as they are read from the database, so the
+     * client starts receiving results immediately and memory use stays flat however many jobs match.
+     * Serves stored jobs only - no Adzuna fetch. At most app.search.stream.max-concurrent streams
+     * run at once (503 beyond that), each bounded by spring.mvc.async.request-timeout.
+     */
+    @GetMapping(value = "/search/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamJobs(
             @RequestParam String query,
             @RequestParam String location,
             @RequestParam(required = false, defaultValue = "25") int distance,
             @RequestParam(required = false) String excludedTerms,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFrom,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo) {
-        logger.info("Search request received: query={}, location={}, excludedTerms={}, dateFrom={}, dateTo={}",
-                    query, location, excludedTerms, dateFrom, dateTo);
+        logger.info("Streaming search request received: query={}, location={}, distance={}", query, location, distance);
 
-        // Step 1 & 2: Fetch fresh jobs from Adzuna API and save to database
-        logger.info("Fetching fresh jobs from Adzuna API for query: {}, location: {}, distance: {}", query, location, distance);
-        jobSearchImpl.searchJobs(query, location, distance);
+        if (!concurrentStreams.tryAcquire()) {
+            logger.warn("Rejecting streaming search: too many streams in progress");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .build();
+        }
 
-        // Step 3, 4, 5: Query database with specific search params, apply filters, return cached results
-        JobSearchResponseDto response = jobSearchService.getJobsFromDatabase(query, location, distance, excludedTerms, dateFrom, dateTo);
-        logger.info("Returning {} jobs matching search criteria", response.getResults().size());
+        StreamingResponseBody body = outputStream -> {
+            try {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+                jobSearchService.streamJobsFromDatabase(query, location, distance, excludedTerms, dateFrom, dateTo, batch -> {
+                    try {
+                        for (JobResponseDto job : batch) {
+                            writer.write(objectMapper.writeValueAsString(job));
+                            writer.write('\n');
+                        }
+                        writer.flush();
+                    } catch (IOException e) {
+                        // Usually the client went away; stop reading further pages
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                writer.flush();
+            } finally {
+                concurrentStreams.release();
+            }
+        };
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+
+    /**
+     * Get a single job with its full description
+     * Search results only carry a snippet; this loads the rest on demand
+     */
+    @GetMapping("/{id:\\d+}")
+    public ResponseEntity<JobResponseDto> getJobById(@PathVariable Long id) {
+        return jobSearchService.getJobById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
     }
 
     // ============================================
@@ -0,0 +1,270 @@
+package JobSearch.Services;
+
+import JobSearch.Services.Implementations.GeocoderImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Offline geocoder answering from a place-name gazetteer held in memory
+ * Loads a GeoNames dump (tab-separated, e.g. cities1000.txt from download.geonames.org/export/dump)
+ * into sorted arrays of normalized names with parallel coordinates. Lookups are a binary search:
+ * the exact name first, then the part before the first comma ("Leeds, West Yorkshire"), then,
+ * for inputs without a comma, a place whose name starts with the input as whole words
+ * ("Newcastle" for "Newcastle upon Tyne") - but only when that place is the sole candidate or
+ * clearly dominates the others by population. Anything else
+ * (counties, regions, misspellings) returns null so Nominatim gets to answer it. Where several
+ * places share a name, the most populous one wins. Disabled when no gazetteer is configured.
+ */
+@Component
+@Order(1)
+public class GazetteerGeocoder implements GeocoderImpl {
+
+    private static final Logger logger = LoggerFactory.getLogger(GazetteerGeocoder.class);
+    private static final int MIN_PREFIX_LENGTH = 3;
+    private static final int MAX_PREFIX_CANDIDATES = 1000;
+    // A prefix match must be this many times more populous than the next candidate
+    private static final long PREFIX_DOMINANCE_FACTOR = 10;
+
+    // GeoNames dump columns
+    private static final int NAME = 1;
+    private static final int ASCII_NAME = 2;
+    private static final int LATITUDE = 4;
+    private static final int LONGITUDE = 5;
+    private static final int COUNTRY_CODE = 8;
+    private static final int POPULATION = 14;
+
+    private final ResourceLoader resourceLoader;
+    private final String gazetteerLocation;
+    private final Set<String> countries;
+    private volatile Index index = Index.EMPTY;
+
+    public GazetteerGeocoder(ResourceLoader resourceLoader,
+                             @Value("${app.geocoding.gazetteer.location:}") String gazetteerLocation,
+                             @Value("${app.geocoding.gazetteer.countries:}") String[] countries) {
+        this.resourceLoader = resourceLoader;
+        this.gazetteerLocation = gazetteerLocation.trim();
+        this.countries = Arrays.stream(countries)
+                .map(country -> country.trim().toUpperCase(Locale.ROOT))
+                .filter(country -> !country.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Load the gazetteer once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (gazetteerLocation.isEmpty()) {
+            logger.info("No gazetteer configured, geocoding uses Nominatim only");
+            return;
+        }
+
+        try {
+            index = read(resourceLoader.getResource(gazetteerLocation));
+            logger.info("Gazetteer loaded from {}: {} place names", gazetteerLocation, index.size());
+        } catch (Exception e) {
+            logger.warn("Failed to load gazetteer from {}, geocoding uses Nominatim only: {}",
+                    gazetteerLocation, e.getMessage());
+        }
+    }
+
+    @Override
+    public GeocodingService.Coordinates geocode(String location) {
+        Index current = index;
+        if (current.size() == 0) {
+            return null;
+        }
+
+        String name = normalize(location);
+        int match = current.exact(name);
+
+        int comma = location.indexOf(',');
+        if (match < 0 && comma > 0) {
+            match = current.exact(normalize(location.substring(0, comma)));
+        }
+        if (match < 0 && comma < 0 && name.length() >= MIN_PREFIX_LENGTH) {
+            match = current.unambiguousWithPrefix(name + " ");
+        }
+
+        return match >= 0 ? current.coordinates(match) : null;
+    }
+
+    @Override
+    public boolean isLocal() {
+        return true;
+    }
+
+    /**
+     * Number of place names loaded
+     */
+    public int size() {
+        return index.size();
+    }
+
+    private Index read(Resource resource) throws IOException {
+        List<Place> places = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] columns = line.split("\t", -1);
+                if (columns.length <= POPULATION) {
+                    continue;
+                }
+
+                String countryCode = columns[COUNTRY_CODE];
+                if (!countries.isEmpty() && !countries.contains(countryCode)) {
+                    continue;
+                }
+
+                try {
+                    double latitude = Double.parseDouble(columns[LATITUDE]);
+                    double longitude = Double.parseDouble(columns[LONGITUDE]);
+                    long population = columns[POPULATION].isEmpty() ? 0 : Long.parseLong(columns[POPULATION]);
+                    String displayName = columns[NAME] + ", " + countryCode;
+
+                    places.add(new Place(normalize(columns[NAME]), latitude, longitude, population, displayName));
+                    String asciiName = normalize(columns[ASCII_NAME]);
+                    if (!asciiName.isEmpty() && !asciiName.equals(normalize(columns[NAME]))) {
+                        places.add(new Place(asciiName, latitude, longitude, population, displayName));
+                    }
+                } catch (NumberFormatException e) {
+                    logger.debug("Skipping malformed gazetteer line: {}", line);
+                }
+            }
+        }
+        return Index.of(places);
+    }
+
+    /**
+     * Lowercase, strip accents and punctuation, and collapse whitespace
+     */
+    static String normalize(String value) {
+        String stripped = Normalizer.normalize(value, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}]+", " ");
+        return stripped.trim();
+    }
+
+    private record Place(String name, double latitude, double longitude, long population, String displayName) {
+    }
+
+    /**
+     * Immutable name index: names sorted ascending, one entry per name, with parallel arrays
+     */
+    private static final class Index {
+
+        static final Index EMPTY = new Index(new String[0], new double[0], new double[0], new long[0], new String[0]);
+
+        private final String[] names;
+        private final double[] latitudes;
+        private final double[] longitudes;
+        private final long[] populations;
+        private final String[] displayNames;
+
+        private Index(String[] names, double[] latitudes, double[] longitudes, long[] populations, String[] displayNames) {
+            this.names = names;
+            this.latitudes = latitudes;
+            this.longitudes = longitudes;
+            this.populations = populations;
+            this.displayNames = displayNames;
+        }
+
+        /**
+         * Build the index, keeping the most populous place for each name
+         */
+        static Index of(List<Place> places) {
+            List<Place> unique = new ArrayList<>();
+            places.stream()
+                    .filter(place -> !place.name().isEmpty())
+                    .sorted(Comparator.comparing(Place::name).thenComparing(Place::population, Comparator.reverseOrder()))
+                    .forEach(place -> {
+                        if (unique.isEmpty() || !unique.get(unique.size() - 1).name().equals(place.name())) {
+                            unique.add(place);
+                        }
+                    });
+
+            int size = unique.size();
+            String[] names = new String[size];
+            double[] latitudes = new double[size];
+            double[] longitudes = new double[size];
+            long[] populations = new long[size];
+            String[] displayNames = new String[size];
+            for (int i = 0; i < size; i++) {
+                Place place = unique.get(i);
+                names[i] = place.name();
+                latitudes[i] = place.latitude();
+                longitudes[i] = place.longitude();
+                populations[i] = place.population();
+                displayNames[i] = place.displayName();
+            }
+            return new Index(names, latitudes, longitudes, populations, displayNames);
+        }
+
+        int size() {
+            return names.length;
+        }
+
+        /**
+         * Position of the exact name, or -1
+         */
+        int exact(String name) {
+            int position = Arrays.binarySearch(names, name);
+            return position >= 0 ? position : -1;
+        }
+
+        /**
+         * Position of the name starting with the prefix if it is the only one, or at least
+         * PREFIX_DOMINANCE_FACTOR times as populous as every other; -1 otherwise
+         */
+        int unambiguousWithPrefix(String prefix) {
+            int position = Arrays.binarySearch(names, prefix);
+            int from = position >= 0 ? position : -position - 1;
+
+            int best = -1;
+            long runnerUp = 0;
+            int i = from;
+            for (; i < names.length && names[i].startsWith(prefix); i++) {
+                if (i - from >= MAX_PREFIX_CANDIDATES) {
+                    return -1;
+                }
+                if (best < 0 || populations[i] > populations[best]) {
+                    if (best >= 0) {
+                        runnerUp = populations[best];
+                    }
+                    best = i;
+                } else {
+                    runnerUp = Math.max(runnerUp, populations[i]);
+                }
+            }
+
+            boolean single = best >= 0 && i - from == 1;
+            boolean dominant = best >= 0 && populations[best] >= Math.max(1, runnerUp) * PREFIX_DOMINANCE_FACTOR;
+            return single || dominant ? best : -1;
+        }
+
+        GeocodingService.Coordinates coordinates(int position) {
+            return new GeocodingService.Coordinates(latitudes[position], longitudes[position], displayNames[position]);
+        }
+    }
+}
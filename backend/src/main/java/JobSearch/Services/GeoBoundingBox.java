@@ -0,0 +1,62 @@
+package JobSearch.Services;
+
+/**
+ * Latitude/longitude box that fully contains a circle of a given radius
+ * LocationIndex uses it to skip locations outside the box before computing exact great-circle distances
+ */
+public class GeoBoundingBox {
+
+    private static final double MILES_PER_DEGREE_LATITUDE = 69.0;
+
+    private final double minLatitude;
+    private final double maxLatitude;
+    private final double minLongitude;
+    private final double maxLongitude;
+
+    private GeoBoundingBox(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+        this.minLatitude = minLatitude;
+        this.maxLatitude = maxLatitude;
+        this.minLongitude = minLongitude;
+        this.maxLongitude = maxLongitude;
+    }
+
+    /**
+     * Box around a center point covering every point within radiusMiles
+     * Widens to all longitudes near the poles or when the box would cross the antimeridian
+     */
+    public static GeoBoundingBox around(double latitude, double longitude, double radiusMiles) {
+        double latitudeDelta = radiusMiles / MILES_PER_DEGREE_LATITUDE;
+        double minLatitude = Math.max(-90, latitude - latitudeDelta);
+        double maxLatitude = Math.min(90, latitude + latitudeDelta);
+
+        double cosLatitude = Math.cos(Math.toRadians(Math.max(Math.abs(minLatitude), Math.abs(maxLatitude))));
+        if (cosLatitude < 1e-6) {
+            return new GeoBoundingBox(minLatitude, maxLatitude, -180, 180);
+        }
+
+        double longitudeDelta = radiusMiles / (MILES_PER_DEGREE_LATITUDE * cosLatitude);
+        double minLongitude = longitude - longitudeDelta;
+        double maxLongitude = longitude + longitudeDelta;
+        if (minLongitude < -180 || maxLongitude > 180) {
+            return new GeoBoundingBox(minLatitude, maxLatitude, -180, 180);
+        }
+
+        return new GeoBoundingBox(minLatitude, maxLatitude, minLongitude, maxLongitude);
+    }
+
+    public double getMinLatitude() {
+        return minLatitude;
+    }
+
+    public double getMaxLatitude() {
+        return maxLatitude;
+    }
+
+    public double getMinLongitude() {
+        return minLongitude;
+    }
+
+    public double getMaxLongitude() {
+        return maxLongitude;
+    }
+}
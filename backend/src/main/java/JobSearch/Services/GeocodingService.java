@@ -1,80 +1,129 @@
 package JobSearch.Services;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import JobSearch.Config.CachePolicies;
+import JobSearch.Services.Implementations.GeocoderImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Locale;
 
 /**
  * Geocoding service to convert location strings to lat/lon coordinates
- * Uses Nominatim (OpenStreetMap) API - free, no API key required
+ * Asks each GeocoderImpl in @Order order - the offline gazetteer first, Nominatim last - and
+ * returns the first result. Before the first non-local geocoder is called, the "geocoding" cache
+ * and then the GeocodingStore tables are checked; results from non-local geocoders are written
+ * back to both. Places no geocoder can find are cached too (when the cache policy allows null
+ * values) but not stored, and failed calls are neither, so they are retried.
  */
 @Service
 public class GeocodingService {
 
     private static final Logger logger = LoggerFactory.getLogger(GeocodingService.class);
-    private static final String NOMINATIM_URL = "https://nominatim.openstreetmap.org/search";
+    private static final String CACHE_NAME = "geocoding";
 
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final List<GeocoderImpl> geocoders;
+    private final CacheManager cacheManager;
+    private final GeocodingStore geocodingStore;
+    private final boolean cacheNotFound;
 
-    public GeocodingService(RestTemplate restTemplate, ObjectMapper objectMapper) {
-        this.restTemplate = restTemplate;
-        this.objectMapper = objectMapper;
+    /**
+     * @param geocoders Every GeocoderImpl bean, sorted by @Order
+     */
+    public GeocodingService(List<GeocoderImpl> geocoders,
+                            CacheManager cacheManager,
+                            GeocodingStore geocodingStore,
+                            CachePolicies cachePolicies) {
+        this.geocoders = List.copyOf(geocoders);
+        this.cacheManager = cacheManager;
+        this.geocodingStore = geocodingStore;
+        this.cacheNotFound = cachePolicies.policy(CACHE_NAME).isCacheNullValues();
     }
 
     /**
      * Geocode a location string to coordinates
      * Results are cached to avoid repeated API calls
+     * @return The coordinates, or null if the place is unknown or the lookup failed
      */
-    @Cacheable(value = "geocoding", key = "#location")
     public Coordinates geocode(String location) {
         if (location == null || location.trim().isEmpty()) {
             return null;
         }
 
-        try {
-            String url = NOMINATIM_URL + "?q=" + location + "&format=json&limit=1";
-
-            // Add User-Agent header (required by Nominatim)
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("User-Agent", "JobSearchApplication/1.0");
-
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
+        String key = location.trim().toLowerCase(Locale.ROOT);
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        boolean remoteConsulted = false;
+        boolean failed = false;
+
+        for (GeocoderImpl geocoder : geocoders) {
+            if (!geocoder.isLocal() && !remoteConsulted) {
+                remoteConsulted = true;
+                Cache.ValueWrapper cached = getCached(cache, key);
+                if (cached != null) {
+                    return (Coordinates) cached.get();
+                }
+
+                Coordinates stored = geocodingStore.find(location, key);
+                if (stored != null) {
+                    putCached(cache, key, stored);
+                    return stored;
+                }
+            }
 
-            String body = response.getBody();
-            if (body == null || body.equals("[]")) {
-                logger.warn("No geocoding results found for location: {}", location);
+            try {
+                Coordinates coords = geocoder.geocode(location);
+                if (coords != null) {
+                    if (!geocoder.isLocal()) {
+                        putCached(cache, key, coords);
+                        geocodingStore.save(location, key, coords);
+                    }
+                    return coords;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("Geocoding interrupted for location '{}'", location);
                 return null;
+            } catch (Exception e) {
+                failed = true;
+                logger.error("Error geocoding location '{}' with {}: {}",
+                        location, geocoder.getClass().getSimpleName(), e.getMessage());
             }
+        }
 
-            JsonNode root = objectMapper.readTree(body);
-            if (root.isArray() && root.size() > 0) {
-                JsonNode firstResult = root.get(0);
-                double lat = firstResult.get("lat").asDouble();
-                double lon = firstResult.get("lon").asDouble();
-                String displayName = firstResult.get("display_name").asText();
-
-                logger.info("Geocoded '{}' to: {} (lat: {}, lon: {})", location, displayName, lat, lon);
-                return new Coordinates(lat, lon, displayName);
-            }
+        if (remoteConsulted && !failed && cacheNotFound) {
+            putCached(cache, key, null);
+        }
+        return null;
+    }
 
+    private Cache.ValueWrapper getCached(Cache cache, String key) {
+        if (cache == null) {
             return null;
+        }
 
-        } catch (Exception e) {
-            logger.error("Error geocoding location '{}': {}", location, e.getMessage());
+        try {
+            return cache.get(key);
+        } catch (RuntimeException e) {
+            logger.warn("Could not read geocoding cache for '{}': {}", key, e.getMessage());
             return null;
         }
     }
 
+    private void putCached(Cache cache, String key, Coordinates coords) {
+        if (cache == null) {
+            return;
+        }
+
+        try {
+            cache.put(key, coords);
+        } catch (RuntimeException e) {
+            logger.warn("Could not write geocoding cache for '{}': {}", key, e.getMessage());
+        }
+    }
+
     /**
      * Coordinates container class
      * Must be serializable for Redis caching
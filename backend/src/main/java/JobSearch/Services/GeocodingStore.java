@@ -0,0 +1,69 @@
+package JobSearch.Services;
+
+import DbConnections.DTO.Entities.Location;
+import DbConnections.Repositories.GeocodedPlaceRepository;
+import DbConnections.Repositories.LocationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Durable geocoding results in PostgreSQL, consulted by GeocodingService before the network
+ * A location string that matches a location's display name uses that row's coordinates; any
+ * other search input is stored in geocoded_places under its normalized text. Unlike the Redis
+ * cache these survive a flush or TTL expiry. Database errors are logged and treated as a miss.
+ * Coordinates of locations rows are only written by LocationGeocodingQueue.
+ */
+@Component
+public class GeocodingStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeocodingStore.class);
+    private static final int MAX_SEARCH_TEXT_LENGTH = 255;
+
+    private final LocationRepository locationRepository;
+    private final GeocodedPlaceRepository geocodedPlaceRepository;
+
+    public GeocodingStore(LocationRepository locationRepository,
+                          GeocodedPlaceRepository geocodedPlaceRepository) {
+        this.locationRepository = locationRepository;
+        this.geocodedPlaceRepository = geocodedPlaceRepository;
+    }
+
+    /**
+     * Stored coordinates for a location string
+     * @param searchText The trimmed, lowercased location string
+     * @return The coordinates, or null if this place has not been geocoded before
+     */
+    public GeocodingService.Coordinates find(String location, String searchText) {
+        try {
+            for (Location match : locationRepository.findByDisplayNameIgnoringCase(location.trim())) {
+                if (match.getLatitude() != null && match.getLongitude() != null) {
+                    return new GeocodingService.Coordinates(match.getLatitude(), match.getLongitude(), match.getDisplayName());
+                }
+            }
+
+            return geocodedPlaceRepository.findById(searchText)
+                    .map(place -> new GeocodingService.Coordinates(place.getLatitude(), place.getLongitude(), place.getDisplayName()))
+                    .orElse(null);
+        } catch (RuntimeException e) {
+            logger.warn("Could not read stored geocoding result for '{}': {}", location, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Persist coordinates looked up from the network
+     * Inputs that match no location are stored in geocoded_places. Matching locations are left
+     * to LocationGeocodingQueue, which owns their coordinates and the LocationIndex.
+     */
+    public void save(String location, String searchText, GeocodingService.Coordinates coords) {
+        try {
+            boolean isKnownLocation = !locationRepository.findByDisplayNameIgnoringCase(location.trim()).isEmpty();
+            if (!isKnownLocation && searchText.length() <= MAX_SEARCH_TEXT_LENGTH) {
+                geocodedPlaceRepository.upsert(searchText, coords.getLatitude(), coords.getLongitude(), coords.getDisplayName());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Could not store geocoding result for '{}': {}", location, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package JobSearch.Services.Implementations;
+
+import JobSearch.Services.GeocodingService;
+
+/**
+ * Source of coordinates for a location string
+ * GeocodingService asks its geocoders in @Order order and uses the first result.
+ */
+public interface GeocoderImpl {
+
+    /**
+     * Look up the coordinates of a location
+     * @return The coordinates, or null if this geocoder does not know the location
+     * @throws Exception if the lookup failed, so a later attempt may succeed
+     */
+    GeocodingService.Coordinates geocode(String location) throws Exception;
+
+    /**
+     * Whether lookups are answered in-process; local results are not worth caching in Redis
+     */
+    default boolean isLocal() {
+        return false;
+    }
+}
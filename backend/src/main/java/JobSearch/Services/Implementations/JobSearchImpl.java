@@ -5,5 +5,9 @@ package JobSearch.Services.Implementations;
  */
 public interface JobSearchImpl {
 
-    void searchJobs(String query, String location, int distance);
+    /**
+     * Fetch jobs from the upstream API and save new ones
+     * @return Number of jobs that were newly inserted
+     */
+    int searchJobs(String query, String location, int distance);
 }
@@ -0,0 +1,199 @@
+package JobSearch.Services;
+
+import DbConnections.DTO.Entities.JobEntity;
+import DbConnections.DTO.JobSearchResponseDto;
+import JobSearch.Config.CachePolicies;
+import JobSearch.Config.CachePolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * The jobSearch cache: search results keyed by JobSearchCacheKey
+ * Used programmatically rather than through @Cacheable so there is exactly one entry point and
+ * no self-invocation that bypasses the proxy. Every cached key is also recorded in a Redis sorted
+ * set scored by its expiry time, so ingestion can evict just the searches its new jobs could
+ * appear in, and entries whose cached value has expired are pruned instead of piling up.
+ * An eviction generation counter keeps a load that overlapped an eviction from re-caching
+ * results read before the new jobs were committed.
+ */
+@Component
+public class JobSearchCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobSearchCache.class);
+    static final String CACHE_NAME = "jobSearch";
+
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final TextSearchMode textSearchMode;
+    private final String keyIndex;
+    private final String generationKey;
+    private final Duration ttl;
+
+    public JobSearchCache(CacheManager cacheManager,
+                          StringRedisTemplate redisTemplate,
+                          CachePolicies cachePolicies,
+                          @Value("${app.search.text-mode:LIKE}") TextSearchMode textSearchMode) {
+        this.cacheManager = cacheManager;
+        this.redisTemplate = redisTemplate;
+        this.textSearchMode = textSearchMode;
+
+        // Index entries expire with the values they list, and share the cache's key prefix
+        CachePolicy policy = cachePolicies.policy(CACHE_NAME);
+        this.keyIndex = policy.getKeyPrefix() + CACHE_NAME + ":keys";
+        this.generationKey = policy.getKeyPrefix() + CACHE_NAME + ":generation";
+        this.ttl = policy.getTtl();
+    }
+
+    /**
+     * Return the cached result for the key, loading and caching it on a miss
+     * Cache failures fall back to the loader so Redis being down never fails a search
+     */
+    public JobSearchResponseDto get(JobSearchCacheKey key, Supplier<JobSearchResponseDto> loader) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return loader.get();
+        }
+
+        String generation;
+        try {
+            JobSearchResponseDto cached = cache.get(key, JobSearchResponseDto.class);
+            if (cached != null) {
+                // Copy rather than mutate: the near cache hands out the same instance to every caller
+                return cached.toBuilder().fromCache(true).build();
+            }
+            generation = currentGeneration();
+        } catch (RuntimeException e) {
+            logger.warn("Could not read job search cache, querying database: {}", e.getMessage());
+            return loader.get();
+        }
+
+        JobSearchResponseDto loaded = loader.get();
+        try {
+            // An eviction while loading means the result may predate newly committed jobs
+            if (!Objects.equals(generation, currentGeneration())) {
+                return loaded;
+            }
+
+            long now = System.currentTimeMillis();
+            redisTemplate.opsForZSet().add(keyIndex, key.toString(), now + ttl.toMillis());
+            redisTemplate.opsForZSet().removeRangeByScore(keyIndex, Double.NEGATIVE_INFINITY, now);
+            redisTemplate.expire(keyIndex, ttl);
+            cache.put(key, loaded);
+
+            // Closes the window between the check above and the put
+            if (!Objects.equals(generation, currentGeneration())) {
+                cache.evict(key);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Could not write job search cache: {}", e.getMessage());
+        }
+        return loaded;
+    }
+
+    /**
+     * Evict cached searches that the newly saved jobs could appear in, once the transaction commits
+     * Evicting before commit would let a concurrent search re-cache results without the new jobs.
+     */
+    public void evictMatchingAfterCommit(Collection<JobEntity> newJobs) {
+        if (newJobs.isEmpty()) {
+            return;
+        }
+
+        List<JobEntity> jobs = new ArrayList<>(newJobs);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictMatching(jobs);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictMatching(jobs);
+            }
+        });
+    }
+
+    /**
+     * Evict every live cached search whose query matches a new job's title or description
+     * Location and filters are ignored, so this can over-evict but never leaves a stale entry.
+     * Full-text queries are stemmed by PostgreSQL and cannot be matched reliably here, so in
+     * FULL_TEXT mode the whole cache is cleared at once.
+     */
+    private void evictMatching(List<JobEntity> newJobs) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+
+        try {
+            redisTemplate.opsForValue().increment(generationKey);
+
+            if (textSearchMode == TextSearchMode.FULL_TEXT) {
+                cache.clear();
+                redisTemplate.delete(keyIndex);
+                logger.info("Cleared job search cache after {} new jobs", newJobs.size());
+                return;
+            }
+
+            long now = System.currentTimeMillis();
+            redisTemplate.opsForZSet().removeRangeByScore(keyIndex, Double.NEGATIVE_INFINITY, now);
+            Set<String> liveKeys = redisTemplate.opsForZSet().rangeByScore(keyIndex, now, Double.POSITIVE_INFINITY);
+            if (liveKeys == null || liveKeys.isEmpty()) {
+                return;
+            }
+
+            // One lowercased blob of all new text, searched once per cached key
+            String jobText = newJobs.stream()
+                    .map(job -> nullToEmpty(job.getTitle()) + "\n" + nullToEmpty(job.getDescription()))
+                    .collect(Collectors.joining("\n"))
+                    .toLowerCase(Locale.ROOT);
+
+            List<String> affected = liveKeys.stream()
+                    .filter(cachedKey -> jobText.contains(JobSearchCacheKey.queryOf(cachedKey)))
+                    .toList();
+            for (String cachedKey : affected) {
+                cache.evict(cachedKey);
+            }
+            if (!affected.isEmpty()) {
+                redisTemplate.opsForZSet().remove(keyIndex, affected.toArray());
+                logger.info("Evicted {} cached job searches affected by {} new jobs", affected.size(), newJobs.size());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Could not evict job search cache entries, clearing the cache instead: {}", e.getMessage());
+            clearQuietly(cache);
+        }
+    }
+
+    private String currentGeneration() {
+        return redisTemplate.opsForValue().get(generationKey);
+    }
+
+    private void clearQuietly(Cache cache) {
+        try {
+            cache.clear();
+        } catch (RuntimeException e) {
+            logger.error("Could not clear job search cache: {}", e.getMessage());
+        }
+    }
+
+    private String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,96 @@
+package JobSearch.Services;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Key for a cached job search result
+ * Built from the normalized request, so searches that differ only in case, surrounding
+ * whitespace or the order of excluded terms share one cache entry.
+ * toString() is the Redis key; every component is URL-encoded so values can never run together.
+ */
+@Getter
+@EqualsAndHashCode
+public final class JobSearchCacheKey {
+
+    private final String query;
+    private final String location;
+    private final int distance;
+    private final List<String> excludedTerms;
+    private final LocalDate dateFrom;
+    private final LocalDate dateTo;
+
+    private JobSearchCacheKey(String query, String location, int distance, List<String> excludedTerms,
+                              LocalDate dateFrom, LocalDate dateTo) {
+        this.query = query;
+        this.location = location;
+        this.distance = distance;
+        this.excludedTerms = excludedTerms;
+        this.dateFrom = dateFrom;
+        this.dateTo = dateTo;
+    }
+
+    /**
+     * @param excludedTerms Comma-separated terms as entered by the user
+     */
+    public static JobSearchCacheKey of(String query, String location, int distance, String excludedTerms,
+                                       LocalDate dateFrom, LocalDate dateTo) {
+        return new JobSearchCacheKey(normalize(query), normalize(location), distance,
+                normalizeExcludedTerms(excludedTerms), dateFrom, dateTo);
+    }
+
+    /**
+     * Excluded terms in the comma-separated form the search methods accept
+     */
+    public String getExcludedTermsParameter() {
+        return excludedTerms.isEmpty() ? null : String.join(",", excludedTerms);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> normalizeExcludedTerms(String excludedTerms) {
+        if (excludedTerms == null || excludedTerms.isBlank()) {
+            return List.of();
+        }
+
+        return Arrays.stream(excludedTerms.split(","))
+                .map(JobSearchCacheKey::normalize)
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .sorted()
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    @Override
+    public String toString() {
+        return "q=" + encode(query)
+                + "&loc=" + encode(location)
+                + "&dist=" + distance
+                + "&excl=" + excludedTerms.stream().map(JobSearchCacheKey::encode).collect(Collectors.joining(","))
+                + "&from=" + (dateFrom != null ? dateFrom : "")
+                + "&to=" + (dateTo != null ? dateTo : "");
+    }
+
+    /**
+     * Normalized query of a key from its toString() form
+     */
+    public static String queryOf(String keyString) {
+        int end = keyString.indexOf("&loc=");
+        return URLDecoder.decode(keyString.substring("q=".length(), end), StandardCharsets.UTF_8);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,71 @@
+package JobSearch.Services;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Excluded-terms and date-range filters in the form JobRepository's search queries bind them
+ * Open bounds become sentinel dates and "no excluded terms" becomes an empty list, so every
+ * query has the same shape and parameter types regardless of which filters the user set.
+ */
+public final class JobSearchFilter {
+
+    private static final LocalDateTime EARLIEST = LocalDateTime.of(1900, 1, 1, 0, 0);
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    private final String excludedTerms;
+    private final LocalDateTime createdFrom;
+    private final LocalDateTime createdBefore;
+
+    private JobSearchFilter(String excludedTerms, LocalDateTime createdFrom, LocalDateTime createdBefore) {
+        this.excludedTerms = excludedTerms;
+        this.createdFrom = createdFrom;
+        this.createdBefore = createdBefore;
+    }
+
+    /**
+     * @param excludedTerms Comma-separated terms; jobs mentioning any of them in title/description are dropped
+     * @param dateFrom First created date to include, or null for no lower bound
+     * @param dateTo Last created date to include (the whole day), or null for no upper bound
+     */
+    public static JobSearchFilter of(String excludedTerms, LocalDate dateFrom, LocalDate dateTo) {
+        return new JobSearchFilter(
+                normalizeExcludedTerms(excludedTerms),
+                dateFrom != null ? dateFrom.atStartOfDay() : EARLIEST,
+                dateTo != null ? dateTo.plusDays(1).atStartOfDay() : LATEST);
+    }
+
+    /**
+     * Trim, lowercase and drop empty terms; escape LIKE wildcards so terms match literally
+     */
+    private static String normalizeExcludedTerms(String excludedTerms) {
+        if (excludedTerms == null || excludedTerms.isBlank()) {
+            return "";
+        }
+
+        return Arrays.stream(excludedTerms.split(","))
+                .map(term -> term.trim().toLowerCase(Locale.ROOT))
+                .filter(term -> !term.isEmpty())
+                .map(term -> term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_"))
+                .distinct()
+                .collect(Collectors.joining(","));
+    }
+
+    /** Comma-separated, LIKE-escaped terms; empty when nothing is excluded */
+    public String getExcludedTerms() {
+        return excludedTerms;
+    }
+
+    /** Inclusive lower bound on created_date */
+    public LocalDateTime getCreatedFrom() {
+        return createdFrom;
+    }
+
+    /** Exclusive upper bound on created_date */
+    public LocalDateTime getCreatedBefore() {
+        return createdBefore;
+    }
+}
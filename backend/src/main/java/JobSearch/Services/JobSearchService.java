@@ -1,32 +1,54 @@
 package JobSearch.Services;
 
+import DbConnections.DTO.Entities.Category;
+import DbConnections.DTO.Entities.Company;
 import DbConnections.DTO.Entities.JobEntity;
+import DbConnections.DTO.Entities.Location;
 import DbConnections.DTO.JobDto;
 import DbConnections.DTO.JobResponseDto;
 import DbConnections.DTO.JobSearchResponseDto;
 import DbConnections.JobMapper;
 import DbConnections.Repositories.CompanyRepository;
+import DbConnections.Repositories.JobInsertRepository;
 import DbConnections.Repositories.JobRepository;
 import DbConnections.Repositories.LocationRepository;
 import DbConnections.Repositories.CategoryRepository;
 import DbConnections.DTO.SearchParamsDto;
 import JobSearch.Services.Implementations.JobSearchImpl;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import JobSearch.Clients.AdzunaClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.http.ResponseEntity;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * JobSearchService class implementing JobSearchImpl interface
@@ -38,54 +60,141 @@ public class JobSearchService implements JobSearchImpl {
 
     private final AdzunaClient adzunaClient;
     private final JobRepository jobRepository;
+    private final JobInsertRepository jobInsertRepository;
     private final CompanyRepository companyRepository;
     private final LocationRepository locationRepository;
     private final CategoryRepository categoryRepository;
     private final JobMapper jobMapper;
-    private final ObjectMapper objectMapper;
     private final GeocodingService geocodingService;
+    private final LocationIndex locationIndex;
+    private final JobSearchCache jobSearchCache;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ExecutorService pageFetchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore concurrentPageFetches;
+    private final TextSearchMode textSearchMode;
+    private final ConcurrentHashMap<SearchParamsDto, CompletableFuture<Integer>> inFlightSearches = new ConcurrentHashMap<>();
 
 
     public JobSearchService(AdzunaClient adzunaClient,
                             JobRepository jobRepository,
+                            JobInsertRepository jobInsertRepository,
                             CompanyRepository companyRepository,
                             LocationRepository locationRepository,
                             CategoryRepository categoryRepository,
                             JobMapper jobMapper,
-                            ObjectMapper objectMapper,
-                            GeocodingService geocodingService) {
+                            GeocodingService geocodingService,
+                            LocationIndex locationIndex,
+                            JobSearchCache jobSearchCache,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${adzuna.max-concurrent-pages:3}") int maxConcurrentPages,
+                            @Value("${app.search.text-mode:LIKE}") TextSearchMode textSearchMode) {
         this.adzunaClient = adzunaClient;
         this.jobRepository = jobRepository;
+        this.jobInsertRepository = jobInsertRepository;
         this.companyRepository = companyRepository;
         this.locationRepository = locationRepository;
         this.categoryRepository = categoryRepository;
         this.jobMapper = jobMapper;
-        this.objectMapper = objectMapper;
         this.geocodingService = geocodingService;
+        this.locationIndex = locationIndex;
+        this.jobSearchCache = jobSearchCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.concurrentPageFetches = new Semaphore(maxConcurrentPages);
+        this.textSearchMode = textSearchMode;
     }
 
     private static final int DEFAULT_PAGES_TO_FETCH = 5;
-    private static final long API_RATE_LIMIT_DELAY_MS = 500;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int STREAM_BATCH_SIZE = 500;
+    private static final int SNIPPET_LENGTH = 200;
+    // A tag, or a tag cut off by the SQL prefix; then a trailing entity cut off the same way
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]*(>|$)");
+    private static final Pattern PARTIAL_ENTITY = Pattern.compile("&#?\\w*$");
+    private static final Pattern NUMERIC_ENTITY = Pattern.compile("&#(x?)([0-9a-fA-F]+);");
 
+    /**
+     * Fetch and save jobs for a search
+     * Concurrent calls for the same normalized query/location/distance share a single
+     * in-flight fetch and all receive its result, instead of each crawling Adzuna.
+     */
     @Override
-    @Transactional
-    public void searchJobs(String query, String location, int distance) {
-        int totalJobsSaved = 0;
-
-        for (int page = 1; page <= DEFAULT_PAGES_TO_FETCH; page++) {
-            SearchParamsDto params = buildSearchParams(query, location, distance, page);
-            int savedCount = processSearchPage(params, page);
-            
-            if (savedCount == 0 && page > 1) {
-                logger.info("No results found on page {}. Stopping pagination.", page);
+    public int searchJobs(String query, String location, int distance) {
+        SearchParamsDto fetchKey = buildSearchParams(query, location, distance, 1).normalizedForFetch();
+        CompletableFuture<Integer> fetch = new CompletableFuture<>();
+        CompletableFuture<Integer> inFlight = inFlightSearches.putIfAbsent(fetchKey, fetch);
+
+        if (inFlight != null) {
+            logger.info("Joining in-flight fetch for query: {}, location: {}, distance: {}", query, location, distance);
+            return awaitInFlightSearch(inFlight);
+        }
+
+        try {
+            int totalJobsSaved = fetchAndSaveAllPages(query, location, distance);
+            fetch.complete(totalJobsSaved);
+            return totalJobsSaved;
+        } catch (Throwable e) {
+            // Errors too, or callers joined in awaitInFlightSearch would wait forever
+            fetch.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightSearches.remove(fetchKey, fetch);
+        }
+    }
+
+    /**
+     * Wait for another caller's fetch, rethrowing its failure as-is
+     */
+    private int awaitInFlightSearch(CompletableFuture<Integer> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Fetch up to DEFAULT_PAGES_TO_FETCH pages from Adzuna and save new jobs
+     */
+    private int fetchAndSaveAllPages(String query, String location, int distance) {
+        // Page 1 is fetched on the calling thread so API errors propagate as before,
+        // and its total count tells us how many more pages are worth requesting
+        SearchPage firstPage = fetchSearchPage(buildSearchParams(query, location, distance, 1));
+        int pagesToFetch = countPagesToFetch(firstPage);
+
+        // Submitted as plain Futures so cancel(true) interrupts a fetch still waiting for
+        // the page semaphore or a rate-limit token
+        List<Future<SearchPage>> remainingPages = IntStream.rangeClosed(2, pagesToFetch)
+                .mapToObj(page -> buildSearchParams(query, location, distance, page))
+                .map(params -> pageFetchExecutor.submit(() -> fetchSearchPageSafely(params)))
+                .collect(Collectors.toList());
+
+        int totalJobsSaved = savePage(firstPage);
+
+        // Save in page order on this thread; stop at the first empty page since later ones are empty too
+        for (int i = 0; i < remainingPages.size(); i++) {
+            SearchPage page = awaitPage(remainingPages.get(i));
+            totalJobsSaved += savePage(page);
+
+            if (page.getJobs().isEmpty()) {
+                logger.info("Page {} returned no results. Stopping pagination.", page.getPage());
+                remainingPages.subList(i + 1, remainingPages.size()).forEach(future -> future.cancel(true));
                 break;
             }
-            
-            totalJobsSaved += savedCount;
-            delayForApiRateLimit();
         }
 
         logger.info("Total jobs saved from all pages: {}", totalJobsSaved);
+        return totalJobsSaved;
+    }
+
+    @PreDestroy
+    public void shutdownPageFetchExecutor() {
+        pageFetchExecutor.shutdownNow();
     }
 
     /**
@@ -101,105 +210,184 @@ public class JobSearchService implements JobSearchImpl {
     }
 
     /**
-     * Process a single page of search results
+     * Work out how many pages to request based on the first page
+     * Adzuna may return fewer results per page than requested, so the page size is taken from
+     * what page 1 actually returned. Uses the total result count when Adzuna provides it,
+     * otherwise the default page limit.
      */
-    private int processSearchPage(SearchParamsDto params, int page) {
-        logger.info("Fetching page {} from Adzuna...", page);
+    private int countPagesToFetch(SearchPage firstPage) {
+        int pageSize = firstPage.getJobs().size();
+        if (pageSize == 0) {
+            return 1;
+        }
 
-        ResponseEntity<String> response = adzunaClient.getResponseEntity(params);
-        String body = response.getBody();
+        if (firstPage.getTotalCount() == null) {
+            return DEFAULT_PAGES_TO_FETCH;
+        }
 
-        if (body == null || body.isEmpty()) {
-            logger.warn("Empty response from Adzuna API on page {}", page);
-            return 0;
+        long pagesAvailable = (firstPage.getTotalCount() + pageSize - 1) / pageSize;
+        return (int) Math.max(1, Math.min(DEFAULT_PAGES_TO_FETCH, pagesAvailable));
+    }
+
+    /**
+     * Wait for a page fetched on a worker thread; fetchSearchPageSafely never fails, so
+     * anything other than a page means this thread was interrupted
+     */
+    private SearchPage awaitPage(Future<SearchPage> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for Adzuna pages", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Adzuna page fetch failed", e.getCause());
         }
+    }
 
+    /**
+     * Fetch a page on a worker thread, treating any failure as an empty page
+     */
+    private SearchPage fetchSearchPageSafely(SearchParamsDto params) {
         try {
-            List<JobDto> dtos = parseJobsFromResponse(body);
-            
-            if (dtos.isEmpty()) {
-                return 0;
+            return fetchSearchPage(params);
+        } catch (Exception e) {
+            if (Thread.currentThread().isInterrupted()) {
+                logger.debug("Fetching page {} cancelled", params.getPage());
+            } else {
+                logger.error("Error fetching page {}: {}", params.getPage(), e.getMessage(), e);
             }
+            return SearchPage.empty(params);
+        }
+    }
 
-            logger.info("Page {} returned {} jobs from Adzuna", page, dtos.size());
-            return saveFilteredJobs(dtos, page);
+    /**
+     * Fetch a single page of search results, streaming jobs straight out of the response
+     * The semaphore bounds how many pages are in flight at once across all searches
+     */
+    private SearchPage fetchSearchPage(SearchParamsDto params) {
+        int page = params.getPage();
+        logger.info("Fetching page {} from Adzuna...", page);
 
-        } catch (Exception e) {
-            logger.error("Error processing page {}: {}", page, e.getMessage(), e);
-            return 0;
+        List<JobDto> dtos = new ArrayList<>(params.getResultsPerPage());
+        Long totalCount;
+        try {
+            concurrentPageFetches.acquire();
+            try {
+                totalCount = adzunaClient.streamJobs(params, dtos::add);
+            } finally {
+                concurrentPageFetches.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Fetching page {} interrupted", page);
+            return SearchPage.empty(params);
         }
+
+        if (dtos.isEmpty()) {
+            logger.warn("No jobs in Adzuna response on page {}", page);
+        } else {
+            logger.info("Page {} returned {} jobs from Adzuna", page, dtos.size());
+        }
+
+        return new SearchPage(page, params.getResultsPerPage(), dtos, totalCount);
     }
 
     /**
-     * Parse jobs from API response JSON
+     * Save a fetched page in its own short transaction
+     * Keeps DB connections from being held while other pages are still being fetched
      */
-    private List<JobDto> parseJobsFromResponse(String body) throws Exception {
-        JsonNode root = objectMapper.readTree(body);
-        JsonNode resultsNode = root.path("results");
-        
-        if (!resultsNode.isArray()) {
-            return new ArrayList<>();
+    private int savePage(SearchPage page) {
+        if (page.getJobs().isEmpty()) {
+            return 0;
         }
 
-        return objectMapper.convertValue(resultsNode, new TypeReference<List<JobDto>>() {});
+        try {
+            Integer savedCount = transactionTemplate.execute(status -> saveFilteredJobs(page.getJobs(), page.getPage()));
+            return savedCount != null ? savedCount : 0;
+        } catch (Exception e) {
+            logger.error("Error processing page {}: {}", page.getPage(), e.getMessage(), e);
+            return 0;
+        }
     }
 
     /**
      * Filter and save jobs, skipping duplicates and invalid entries
+     * Jobs are written with INSERT ... ON CONFLICT DO NOTHING, so the returned count
+     * only includes rows that were truly new, even when concurrent searches overlap
      */
     private int saveFilteredJobs(List<JobDto> dtos, int page) {
-        List<JobEntity> toSave = new ArrayList<>();
+        List<JobDto> newDtos = new ArrayList<>();
         int skippedNoId = 0;
         int skippedDuplicate = 0;
 
+        Set<String> seenExternalIds = findExistingExternalIds(dtos);
+
         for (JobDto dto : dtos) {
-            if (shouldSkipJob(dto, skippedNoId)) {
+            if (shouldSkipJob(dto)) {
                 skippedNoId++;
                 continue;
             }
 
-            if (isDuplicate(dto)) {
+            if (!seenExternalIds.add(dto.getExternalId())) {
                 skippedDuplicate++;
                 continue;
             }
 
-            JobEntity entity = mapJobDtoToEntity(dto);
-            if (entity != null) {
-                toSave.add(entity);
-            }
+            newDtos.add(dto);
         }
 
-        logJobProcessingStats(page, dtos.size(), toSave.size(), skippedDuplicate, skippedNoId);
+        List<JobEntity> toSave = mapJobDtosToEntities(newDtos);
 
-        if (!toSave.isEmpty()) {
-            jobRepository.saveAll(toSave);
-            logger.info("Saved {} new jobs from page {}", toSave.size(), page);
-            return toSave.size();
+        int savedCount = toSave.isEmpty() ? 0 : jobInsertRepository.insertIgnoringDuplicates(toSave).size();
+        skippedDuplicate += toSave.size() - savedCount;
+
+        if (savedCount > 0) {
+            jobSearchCache.evictMatchingAfterCommit(toSave);
         }
 
-        return 0;
+        logJobProcessingStats(page, dtos.size(), savedCount, skippedDuplicate, skippedNoId);
+
+        if (savedCount > 0) {
+            logger.info("Saved {} new jobs from page {}", savedCount, page);
+        }
+
+        return savedCount;
     }
 
     /**
      * Check if job should be skipped due to missing ID
      */
-    private boolean shouldSkipJob(JobDto dto, int count) {
+    private boolean shouldSkipJob(JobDto dto) {
         return dto.getExternalId() == null;
     }
 
     /**
-     * Check if job already exists in database
+     * Look up which external IDs on the page already exist in one query.
+     * The returned set is mutable so callers can also track in-page repeats.
      */
-    private boolean isDuplicate(JobDto dto) {
-        return jobRepository.findByExternalId(dto.getExternalId()).isPresent();
+    private Set<String> findExistingExternalIds(List<JobDto> dtos) {
+        Set<String> externalIds = dtos.stream()
+                .map(JobDto::getExternalId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        if (externalIds.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        return new HashSet<>(jobRepository.findExistingExternalIds(externalIds));
     }
 
     /**
-     * Map JobDto to JobEntity with source information
+     * Map a page of JobDtos to JobEntities with source information
      */
-    private JobEntity mapJobDtoToEntity(JobDto dto) {
-        dto.setSource("Adzuna");
-        return jobMapper.toEntity(dto);
+    private List<JobEntity> mapJobDtosToEntities(List<JobDto> dtos) {
+        if (dtos.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        dtos.forEach(dto -> dto.setSource("Adzuna"));
+        return jobMapper.toEntities(dtos);
     }
 
     /**
@@ -211,180 +399,275 @@ public class JobSearchService implements JobSearchImpl {
     }
 
     /**
-     * Delay to respect API rate limits
+     * Get jobs from database/cache with optional distance, exclude terms and date range filtering
+     * Results are cached in Redis under a normalized JobSearchCacheKey, so searches differing only
+     * in case, whitespace or excluded-term order share an entry; ingestion evicts affected entries.
+     * Uses geocoding + distance-based filtering if location can be geocoded
+     * Results are job summaries (description cut to a snippet); use getJobById for the full job
      */
-    private void delayForApiRateLimit() {
-        try {
-            Thread.sleep(API_RATE_LIMIT_DELAY_MS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            logger.warn("Rate limit delay interrupted", e);
-        }
+    public JobSearchResponseDto getJobsFromDatabase(String query, String location, int distance, String excludedTerms, LocalDate dateFrom, LocalDate dateTo) {
+        JobSearchCacheKey key = JobSearchCacheKey.of(query, location, distance, excludedTerms, dateFrom, dateTo);
+        return jobSearchCache.get(key, () -> loadJobsFromDatabase(key));
     }
 
     /**
-     * Get jobs from database/cache based on search parameters
-     * This method is cached in Redis for 1 hour
+     * Run a search against the database, using the normalized values from the cache key
+     * so the cached result always matches the key it is stored under
      */
-    @Cacheable(value = "jobSearch", key = "#query + '_' + #location")
-    public JobSearchResponseDto getJobsFromDatabase(String query, String location) {
-        return getJobsFromDatabase(query, location, 25, null, null, null);
-    }
+    private JobSearchResponseDto loadJobsFromDatabase(JobSearchCacheKey key) {
+        logger.info("Fetching jobs from database for {}", key);
 
-    /**
-     * Get jobs from database with optional date range filtering (backward compatibility)
-     * This method is cached in Redis for 1 hour
-     */
-    @Cacheable(value = "jobSearch", key = "#query + '_' + #location + '_' + #dateFrom + '_' + #dateTo")
-    public JobSearchResponseDto getJobsFromDatabase(String query, String location, LocalDate dateFrom, LocalDate dateTo) {
-        return getJobsFromDatabase(query, location, 25, null, dateFrom, dateTo);
-    }
+        // Excluded terms and date range are applied by the query itself
+        JobSearchFilter filter = JobSearchFilter.of(key.getExcludedTermsParameter(), key.getDateFrom(), key.getDateTo());
+        List<JobRepository.JobSummary> summaries = fetchJobsByLocationAndQuery(key.getQuery(), key.getLocation(), key.getDistance(), filter);
 
-    /**
-     * Get jobs from database with optional exclude terms and date range filtering
-     * This method is cached in Redis for 1 hour
-     */
-    @Cacheable(value = "jobSearch", key = "#query + '_' + #location + '_' + #excludedTerms + '_' + #dateFrom + '_' + #dateTo")
-    public JobSearchResponseDto getJobsFromDatabase(String query, String location, String excludedTerms, LocalDate dateFrom, LocalDate dateTo) {
-        return getJobsFromDatabase(query, location, 25, excludedTerms, dateFrom, dateTo);
+        List<JobResponseDto> jobs = convertToResponseDtos(summaries);
+
+        logger.info("Retrieved {} jobs from database", jobs.size());
+
+        return JobSearchResponseDto.builder()
+                .count(jobs.size())
+                .results(jobs)
+                .fromCache(false)
+                .build();
     }
 
     /**
-     * Get jobs from database with optional distance, exclude terms and date range filtering
-     * This method is cached in Redis for 1 hour
-     * Uses geocoding + distance-based filtering if location can be geocoded
+     * Get one keyset-paginated page of jobs, newest first
+     * Only the requested page is loaded; the total match count is computed separately and
+     * only for the first page (cursor == null), since it does not change between pages.
+     * @param limit Page size, 1 to MAX_PAGE_SIZE
+     * @param cursor nextCursor from the previous page, or null for the first page
      */
-    @Cacheable(value = "jobSearch", key = "#query + '_' + #location + '_' + #distance + '_' + #excludedTerms + '_' + #dateFrom + '_' + #dateTo")
-    public JobSearchResponseDto getJobsFromDatabase(String query, String location, int distance, String excludedTerms, LocalDate dateFrom, LocalDate dateTo) {
-        logger.info("Fetching jobs from database for query: {}, location: {}, distance: {}, excludedTerms: {}, dateFrom: {}, dateTo: {}",
-                    query, location, distance, excludedTerms, dateFrom, dateTo);
+    public JobSearchResponseDto getJobPageFromDatabase(String query, String location, int distance, String excludedTerms,
+                                                       LocalDate dateFrom, LocalDate dateTo, int limit, String cursor) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
 
-        List<JobEntity> jobEntities = fetchJobsByLocationAndQuery(query, location, distance);
-        jobEntities = applyExcludedTermsFilter(jobEntities, excludedTerms);
-        jobEntities = applyDateFilter(jobEntities, dateFrom, dateTo);
+        boolean firstPage = cursor == null || cursor.isBlank();
+        SearchCursor after = firstPage ? SearchCursor.first() : SearchCursor.decode(cursor);
+        logger.info("Fetching job page from database for query: {}, location: {}, distance: {}, limit: {}, firstPage: {}",
+                query, location, distance, limit, firstPage);
 
-        List<JobResponseDto> jobs = jobEntities.stream()
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        JobSearchFilter filter = JobSearchFilter.of(excludedTerms, dateFrom, dateTo);
+        GeocodingService.Coordinates coords = geocodingService.geocode(location);
 
-        logger.info("Retrieved {} jobs from database", jobs.size());
+        // Read one extra row to learn whether another page exists
+        List<JobRepository.JobSummary> rows = coords != null
+                ? fetchJobPageByDistance(query, coords, distance, filter, after, limit + 1)
+                : fetchJobPageByLocationString(query, location, filter, after, limit + 1);
+
+        boolean hasMore = rows.size() > limit;
+        List<JobRepository.JobSummary> summaries = hasMore ? rows.subList(0, limit) : rows;
+        JobRepository.JobSummary last = hasMore ? summaries.get(summaries.size() - 1) : null;
+        String nextCursor = last != null ? SearchCursor.after(last.getCreatedDate(), last.getId()).encode() : null;
+        Long totalCount = firstPage ? countMatchingJobs(query, location, distance, filter, coords) : null;
+
+        List<JobResponseDto> jobs = convertToResponseDtos(summaries);
+
+        logger.info("Retrieved page of {} jobs from database (hasMore: {})", jobs.size(), hasMore);
 
         return JobSearchResponseDto.builder()
                 .count(jobs.size())
                 .results(jobs)
                 .fromCache(false)
+                .totalCount(totalCount)
+                .nextCursor(nextCursor)
                 .build();
     }
 
     /**
-     * Fetch jobs by location and query using geocoding or string matching
+     * Stream every job matching a search to the consumer, newest first
+     * Jobs are read in keyset pages of STREAM_BATCH_SIZE, each in its own short read-only
+     * transaction that also resolves dimension names, and handed over once that transaction has
+     * ended. A slow client therefore never holds a database connection while it reads, and memory
+     * use does not grow with the number of matches.
+     * @return Number of jobs streamed
      */
-    private List<JobEntity> fetchJobsByLocationAndQuery(String query, String location, int distance) {
+    public int streamJobsFromDatabase(String query, String location, int distance, String excludedTerms,
+                                      LocalDate dateFrom, LocalDate dateTo, Consumer<List<JobResponseDto>> batchConsumer) {
+        logger.info("Streaming jobs from database for query: {}, location: {}, distance: {}", query, location, distance);
+
+        JobSearchFilter filter = JobSearchFilter.of(excludedTerms, dateFrom, dateTo);
         GeocodingService.Coordinates coords = geocodingService.geocode(location);
 
-        if (coords != null) {
-            return fetchJobsByDistance(query, coords, distance);
-        } else {
-            return fetchJobsByLocationString(query, location);
+        int count = 0;
+        SearchCursor after = SearchCursor.first();
+        while (true) {
+            SearchCursor pageAfter = after;
+            StreamBatch batch = readOnlyTransactionTemplate.execute(status -> {
+                List<JobRepository.JobSummary> rows = coords != null
+                        ? fetchJobPageByDistance(query, coords, distance, filter, pageAfter, STREAM_BATCH_SIZE)
+                        : fetchJobPageByLocationString(query, location, filter, pageAfter, STREAM_BATCH_SIZE);
+                if (rows.isEmpty()) {
+                    return null;
+                }
+                JobRepository.JobSummary last = rows.get(rows.size() - 1);
+                return new StreamBatch(convertToResponseDtos(rows), SearchCursor.after(last.getCreatedDate(), last.getId()));
+            });
+            if (batch == null) {
+                break;
+            }
+
+            batchConsumer.accept(batch.getJobs());
+            count += batch.getJobs().size();
+            if (batch.getJobs().size() < STREAM_BATCH_SIZE) {
+                break;
+            }
+            after = batch.getNext();
         }
+
+        logger.info("Streamed {} jobs from database", count);
+        return count;
     }
 
     /**
-     * Fetch jobs using distance-based geographic search
+     * Get a single job with its full description
+     * Detail counterpart to the summary results returned by searches
      */
-    private List<JobEntity> fetchJobsByDistance(String query, GeocodingService.Coordinates coords, int distance) {
-        logger.info("Using geographic distance search with center: {} (lat: {}, lon: {}), radius: {} miles",
-                coords.getDisplayName(), coords.getLatitude(), coords.getLongitude(), distance);
-        
-        List<JobEntity> jobs = jobRepository.findByQueryAndDistance(query, coords.getLatitude(), coords.getLongitude(), distance);
-        logger.info("Distance-based query returned {} jobs", jobs.size());
-        return jobs;
+    public Optional<JobResponseDto> getJobById(Long id) {
+        return jobRepository.findById(id)
+                .map(entity -> {
+                    JobResponseDto dto = convertToResponseDto(entity);
+                    populateDimensionNames(List.of(dto));
+                    return dto;
+                });
     }
 
     /**
-     * Fetch jobs using string matching fallback
+     * Fetch a page of jobs within a distance of the center, newest first
      */
-    private List<JobEntity> fetchJobsByLocationString(String query, String location) {
-        logger.warn("Geocoding failed for location: {}, falling back to string matching", location);
-        logger.info("Querying database with LIKE '%{}%' in title/description AND LIKE '%{}%' in location", query, location);
-        
-        long totalJobs = jobRepository.count();
-        logger.debug("Total jobs in database: {}", totalJobs);
-        
-        List<JobEntity> jobs = jobRepository.findByQueryAndLocation(query, location);
-        logger.info("String-based query returned {} jobs", jobs.size());
-        return jobs;
+    private List<JobRepository.JobSummary> fetchJobPageByDistance(String query, GeocodingService.Coordinates coords, int distance,
+                                                                  JobSearchFilter filter, SearchCursor after, int limit) {
+        LocationIndex.Nearby nearby = locationIndex.findWithin(coords.getLatitude(), coords.getLongitude(), distance);
+        return textSearchMode == TextSearchMode.FULL_TEXT
+                ? jobRepository.searchPageByQueryAndDistance(query, nearby.getLocationIdsParameter(), nearby.getDistancesParameter(),
+                                                filter.getExcludedTerms(), filter.getCreatedFrom(), filter.getCreatedBefore(),
+                        after.getCreatedDate(), after.getId(), limit)
+                : jobRepository.findPageByQueryAndDistance(query, nearby.getLocationIdsParameter(), nearby.getDistancesParameter(),
+                                                filter.getExcludedTerms(), filter.getCreatedFrom(), filter.getCreatedBefore(),
+                        after.getCreatedDate(), after.getId(), limit);
     }
 
     /**
-     * Apply excluded terms filter to job list
+     * Fetch a page of jobs whose location name matches, newest first
      */
-    private List<JobEntity> applyExcludedTermsFilter(List<JobEntity> jobs, String excludedTerms) {
-        if (excludedTerms == null || excludedTerms.trim().isEmpty()) {
-            return jobs;
-        }
+    private List<JobRepository.JobSummary> fetchJobPageByLocationString(String query, String location, JobSearchFilter filter,
+                                                                        SearchCursor after, int limit) {
+        return textSearchMode == TextSearchMode.FULL_TEXT
+                ? jobRepository.searchPageByQueryAndLocation(query, location,
+                        filter.getExcludedTerms(), filter.getCreatedFrom(), filter.getCreatedBefore(),
+                        after.getCreatedDate(), after.getId(), limit)
+                : jobRepository.findPageByQueryAndLocation(query, location,
+                        filter.getExcludedTerms(), filter.getCreatedFrom(), filter.getCreatedBefore(),
+                        after.getCreatedDate(), after.getId(), limit);
+    }
 
-        String[] excludeTermsArray = excludedTerms.split(",");
-        List<JobEntity> filtered = jobs.stream()
-                .filter(job -> !containsExcludedTerm(job, excludeTermsArray))
-                .collect(Collectors.toList());
+    /**
+     * Count every job matching a paginated search
+     */
+    private long countMatchingJobs(String query, String location, int distance, JobSearchFilter filter,
+                                   GeocodingService.Coordinates coords) {
+        if (coords == null) {
+            return textSearchMode == TextSearchMode.FULL_TEXT
+                    ? jobRepository.countSearchByQueryAndLocation(query, location,
+                            filter.getExcludedTerms(), filter.getCreatedFrom(), filter.getCreatedBefore())
+                    : jobRepository.countByQueryAndLocation(query, location,
+                            filter.getExcludedTerms(), filter.getCreatedFrom(), filter.getCreatedBefore());
+        }
 
-        logger.info("After exclude filtering: {} jobs match", filtered.size());
-        return filtered;
+        LocationIndex.Nearby nearby = locationIndex.findWithin(coords.getLatitude(), coords.getLongitude(), distance);
+        return textSearchMode == TextSearchMode.FULL_TEXT
+                ? jobRepository.countSearchByQueryAndDistance(query, nearby.getLocationIdsParameter(), nearby.getDistancesParameter(),
+                                                filter.getExcludedTerms(), filter.getCreatedFrom(), filter.getCreatedBefore())
+                : jobRepository.countByQueryAndDistance(query, nearby.getLocationIdsParameter(), nearby.getDistancesParameter(),
+                                                filter.getExcludedTerms(), filter.getCreatedFrom(), filter.getCreatedBefore());
     }
 
     /**
-     * Check if job contains any excluded terms
+     * Fetch jobs by location and query using geocoding or string matching
      */
-    private boolean containsExcludedTerm(JobEntity job, String[] excludeTermsArray) {
-        String jobTitle = job.getTitle() != null ? job.getTitle().toLowerCase() : "";
-        String jobDescription = job.getDescription() != null ? job.getDescription().toLowerCase() : "";
+    private List<JobRepository.JobSummary> fetchJobsByLocationAndQuery(String query, String location, int distance,
+                                                                       JobSearchFilter filter) {
+        GeocodingService.Coordinates coords = geocodingService.geocode(location);
 
-        for (String term : excludeTermsArray) {
-            String trimmedTerm = term.trim().toLowerCase();
-            if (!trimmedTerm.isEmpty() && (jobTitle.contains(trimmedTerm) || jobDescription.contains(trimmedTerm))) {
-                return true;
-            }
+        if (coords != null) {
+            return fetchJobsByDistance(query, coords, distance, filter);
+        } else {
+            return fetchJobsByLocationString(query, location, filter);
         }
-        return false;
     }
 
     /**
-     * Apply date range filter to job list
+     * Fetch jobs using distance-based geographic search, nearest first
+     * Nearby locations and their distances are resolved in memory by LocationIndex
      */
-    private List<JobEntity> applyDateFilter(List<JobEntity> jobs, LocalDate dateFrom, LocalDate dateTo) {
-        if (dateFrom == null && dateTo == null) {
-            return jobs;
-        }
+    private List<JobRepository.JobSummary> fetchJobsByDistance(String query, GeocodingService.Coordinates coords, int distance,
+                                                               JobSearchFilter filter) {
+        logger.info("Using geographic distance search with center: {} (lat: {}, lon: {}), radius: {} miles",
+                coords.getDisplayName(), coords.getLatitude(), coords.getLongitude(), distance);
 
-        List<JobEntity> filtered = jobs.stream()
-                .filter(job -> isWithinDateRange(job, dateFrom, dateTo))
-                .collect(Collectors.toList());
+        LocationIndex.Nearby nearby = locationIndex.findWithin(coords.getLatitude(), coords.getLongitude(), distance);
+        List<JobRepository.JobSummary> jobs = textSearchMode == TextSearchMode.FULL_TEXT
+                ? jobRepository.searchByQueryAndDistance(query, nearby.getLocationIdsParameter(), nearby.getDistancesParameter(),
+                                                filter.getExcludedTerms(), filter.getCreatedFrom(), filter.getCreatedBefore())
+                : jobRepository.findByQueryAndDistance(query, nearby.getLocationIdsParameter(), nearby.getDistancesParameter(),
+                                                filter.getExcludedTerms(), filter.getCreatedFrom(), filter.getCreatedBefore());
+        logger.info("Distance-based query over {} nearby locations returned {} jobs", nearby.size(), jobs.size());
+        return jobs;
+    }
 
-        logger.info("After date filtering: {} jobs match", filtered.size());
-        return filtered;
+    /**
+     * Fetch jobs using string matching fallback
+     */
+    private List<JobRepository.JobSummary> fetchJobsByLocationString(String query, String location, JobSearchFilter filter) {
+        logger.warn("Geocoding failed for location: {}, falling back to string matching", location);
+        logger.info("Querying database with {} match on '{}' in title/description AND LIKE '%{}%' in location",
+                textSearchMode, query, location);
+
+        List<JobRepository.JobSummary> jobs = textSearchMode == TextSearchMode.FULL_TEXT
+                ? jobRepository.searchByQueryAndLocation(query, location,
+                        filter.getExcludedTerms(), filter.getCreatedFrom(), filter.getCreatedBefore())
+                : jobRepository.findByQueryAndLocation(query, location,
+                        filter.getExcludedTerms(), filter.getCreatedFrom(), filter.getCreatedBefore());
+        logger.info("String-based query returned {} jobs", jobs.size());
+        return jobs;
     }
 
     /**
-     * Check if job created date is within the specified range
+     * Convert job summaries to JobResponseDtos for list views (snippet instead of description)
      */
-    private boolean isWithinDateRange(JobEntity job, LocalDate dateFrom, LocalDate dateTo) {
-        if (job.getCreatedDate() == null) {
-            return false;
-        }
+    private List<JobResponseDto> convertToResponseDtos(List<JobRepository.JobSummary> summaries) {
+        List<JobResponseDto> dtos = summaries.stream()
+                .map(summary -> JobResponseDto.builder()
+                        .id(summary.getId())
+                        .externalId(summary.getExternalId())
+                        .title(summary.getTitle())
+                        .companyId(summary.getCompanyId())
+                        .locationId(summary.getLocationId())
+                        .categoryId(summary.getCategoryId())
+                        .salaryMin(summary.getSalaryMin())
+                        .salaryMax(summary.getSalaryMax())
+                        .snippet(toSnippet(summary.getSnippet()))
+                        .jobUrl(summary.getJobUrl())
+                        .source(summary.getSource())
+                        .createdDate(formatDate(summary.getCreatedDate()))
+                        .dateFound(formatDate(summary.getDateFound()))
+                        .applyBy(formatDate(summary.getApplyBy()))
+                        .distanceMiles(summary.getDistanceMiles())
+                        .build())
+                .collect(Collectors.toList());
 
-        LocalDate jobDate = job.getCreatedDate().toLocalDate();
-        boolean afterStart = dateFrom == null || !jobDate.isBefore(dateFrom);
-        boolean beforeEnd = dateTo == null || !jobDate.isAfter(dateTo);
-        
-        return afterStart && beforeEnd;
+        populateDimensionNames(dtos);
+        return dtos;
     }
 
     /**
-     * Convert JobEntity to JobResponseDto
+     * Convert JobEntity to JobResponseDto with the full description, without dimension names
      */
     private JobResponseDto convertToResponseDto(JobEntity entity) {
-        JobResponseDto dto = JobResponseDto.builder()
+        return JobResponseDto.builder()
                 .id(entity.getId())
                 .externalId(entity.getExternalId())
                 .title(entity.getTitle())
@@ -400,13 +683,75 @@ public class JobSearchService implements JobSearchImpl {
                 .dateFound(formatDate(entity.getDateFound()))
                 .applyBy(formatDate(entity.getApplyBy()))
                 .build();
+    }
 
-        populateCompanyName(dto, entity);
-        populateLocationName(dto, entity);
-        populateCategoryName(dto, entity);
-        dto.populateNestedObjects();
+    /**
+     * Fill in company, location and category names
+     * Names are loaded with one batched query per dimension for the whole result set,
+     * rather than three lookups per job
+     */
+    private void populateDimensionNames(List<JobResponseDto> dtos) {
+        Map<Long, String> companyNames = companyRepository.findAllById(distinctIds(dtos, JobResponseDto::getCompanyId)).stream()
+                .collect(Collectors.toMap(Company::getId, Company::getName));
+        Map<Long, String> locationNames = locationRepository.findAllById(distinctIds(dtos, JobResponseDto::getLocationId)).stream()
+                .collect(Collectors.toMap(Location::getId, Location::getDisplayName));
+        Map<Long, String> categoryNames = categoryRepository.findAllById(distinctIds(dtos, JobResponseDto::getCategoryId)).stream()
+                .collect(Collectors.toMap(Category::getId, Category::getName));
+
+        for (JobResponseDto dto : dtos) {
+            dto.setCompanyName(nameFor(companyNames, dto.getCompanyId()));
+            dto.setLocationName(nameFor(locationNames, dto.getLocationId()));
+            dto.setCategoryName(nameFor(categoryNames, dto.getCategoryId()));
+            dto.populateNestedObjects();
+        }
+    }
+
+    /**
+     * Collect the distinct, non-null foreign key values across the results
+     */
+    private Set<Long> distinctIds(List<JobResponseDto> dtos, Function<JobResponseDto, Long> idGetter) {
+        return dtos.stream()
+                .map(idGetter)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    private String nameFor(Map<Long, String> namesById, Long id) {
+        return id != null ? namesById.get(id) : null;
+    }
+
+    /**
+     * Plain-text snippet of a description prefix: tags stripped and entities decoded before
+     * cutting to SNIPPET_LENGTH, so a snippet never ends inside a tag or entity
+     */
+    private String toSnippet(String html) {
+        if (html == null) {
+            return null;
+        }
 
-        return dto;
+        String text = PARTIAL_ENTITY.matcher(HTML_TAG.matcher(html).replaceAll(" ")).replaceAll("");
+        text = NUMERIC_ENTITY.matcher(text).replaceAll(entity -> {
+            try {
+                int codePoint = Integer.parseInt(entity.group(2), entity.group(1).isEmpty() ? 10 : 16);
+                return Matcher.quoteReplacement(Character.toString(codePoint));
+            } catch (IllegalArgumentException e) {
+                return " ";
+            }
+        });
+        text = text.replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&apos;", "'")
+                .replace("&amp;", "&")
+                .replaceAll("\\s+", " ")
+                .trim();
+
+        if (text.length() <= SNIPPET_LENGTH) {
+            return text;
+        }
+        int end = text.lastIndexOf(' ', SNIPPET_LENGTH);
+        return text.substring(0, end > 0 ? end : SNIPPET_LENGTH) + "...";
     }
 
     /**
@@ -424,32 +769,28 @@ public class JobSearchService implements JobSearchImpl {
     }
 
     /**
-     * Populate company name in DTO
-     */
-    private void populateCompanyName(JobResponseDto dto, JobEntity entity) {
-        if (entity.getCompanyId() != null) {
-            companyRepository.findById(entity.getCompanyId())
-                    .ifPresent(company -> dto.setCompanyName(company.getName()));
-        }
-    }
-
-    /**
-     * Populate location name in DTO
+     * One page of a streamed search and the cursor after its last job
      */
-    private void populateLocationName(JobResponseDto dto, JobEntity entity) {
-        if (entity.getLocationId() != null) {
-            locationRepository.findById(entity.getLocationId())
-                    .ifPresent(location -> dto.setLocationName(location.getDisplayName()));
-        }
+    @Getter
+    @AllArgsConstructor
+    private static class StreamBatch {
+        private final List<JobResponseDto> jobs;
+        private final SearchCursor next;
     }
 
     /**
-     * Populate category name in DTO
+     * One page of parsed Adzuna results
      */
-    private void populateCategoryName(JobResponseDto dto, JobEntity entity) {
-        if (entity.getCategoryId() != null) {
-            categoryRepository.findById(entity.getCategoryId())
-                    .ifPresent(category -> dto.setCategoryName(category.getName()));
+    @Getter
+    @AllArgsConstructor
+    private static class SearchPage {
+        private final int page;
+        private final int resultsPerPage;
+        private final List<JobDto> jobs;
+        private final Long totalCount;
+
+        static SearchPage empty(SearchParamsDto params) {
+            return new SearchPage(params.getPage(), params.getResultsPerPage(), new ArrayList<>(), null);
         }
     }
 }
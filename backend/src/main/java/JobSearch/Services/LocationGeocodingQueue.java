@@ -0,0 +1,148 @@
+package JobSearch.Services;
+
+import DbConnections.DTO.Entities.Location;
+import DbConnections.Repositories.LocationRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background queue that geocodes newly created locations
+ * Ingestion inserts locations with null coordinates and hands them to this queue, so no
+ * Nominatim call ever runs while a database transaction is open. A small, bounded worker
+ * pool geocodes each location (GeocodingService enforces Nominatim's rate limit) and
+ * writes latitude/longitude back to the locations table and the LocationIndex. This queue is
+ * the only writer of location coordinates; GeocodingStore leaves matching locations alone.
+ */
+@Service
+public class LocationGeocodingQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocationGeocodingQueue.class);
+
+    private final GeocodingService geocodingService;
+    private final LocationRepository locationRepository;
+    private final LocationIndex locationIndex;
+    private final ThreadPoolExecutor executor;
+    private final Set<Long> pendingLocationIds = ConcurrentHashMap.newKeySet();
+    private final int backfillSize;
+
+    public LocationGeocodingQueue(GeocodingService geocodingService,
+                                  LocationRepository locationRepository,
+                                  LocationIndex locationIndex,
+                                  @Value("${app.geocoding.queue.workers:1}") int workers,
+                                  @Value("${app.geocoding.queue.capacity:10000}") int capacity,
+                                  @Value("${app.geocoding.queue.backfill-size:1000}") int backfillSize) {
+        this.geocodingService = geocodingService;
+        this.locationRepository = locationRepository;
+        this.locationIndex = locationIndex;
+        this.backfillSize = backfillSize;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(capacity),
+                Thread.ofPlatform().name("geocoding-", 0).daemon(true).factory());
+    }
+
+    /**
+     * Queue newly inserted locations once the current transaction commits
+     * Rows from a rolled-back transaction are never geocoded.
+     * @param locationIds Map of display name to location id
+     */
+    public void enqueueAfterCommit(Map<String, Long> locationIds) {
+        if (locationIds.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            locationIds.forEach((displayName, id) -> enqueue(id, displayName));
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                locationIds.forEach((displayName, id) -> enqueue(id, displayName));
+            }
+        });
+    }
+
+    /**
+     * Queue a single location for geocoding, ignoring it if it is already pending
+     */
+    public void enqueue(Long locationId, String displayName) {
+        if (!pendingLocationIds.add(locationId)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> geocodeAndStore(locationId, displayName));
+        } catch (RejectedExecutionException e) {
+            pendingLocationIds.remove(locationId);
+            logger.warn("Geocoding queue is full, skipping location {} ('{}')", locationId, displayName);
+        }
+    }
+
+    /**
+     * Queue locations left without coordinates, e.g. by a restart while the queue was draining
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissingCoordinates() {
+        try {
+            List<Location> missing = locationRepository.findByLatitudeIsNull(PageRequest.of(0, backfillSize));
+            missing.forEach(location -> enqueue(location.getId(), location.getDisplayName()));
+
+            if (!missing.isEmpty()) {
+                logger.info("Queued {} locations without coordinates for geocoding", missing.size());
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to queue locations without coordinates: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Number of locations waiting to be geocoded
+     */
+    public int getPendingCount() {
+        return pendingLocationIds.size();
+    }
+
+    /**
+     * Geocode a location and persist its coordinates
+     */
+    private void geocodeAndStore(Long locationId, String displayName) {
+        try {
+            GeocodingService.Coordinates coords = geocodingService.geocode(displayName);
+            if (coords == null) {
+                logger.debug("No coordinates found for location {} ('{}')", locationId, displayName);
+                return;
+            }
+
+            locationRepository.updateCoordinates(locationId, coords.getLatitude(), coords.getLongitude());
+            locationIndex.put(locationId, coords.getLatitude(), coords.getLongitude());
+            logger.debug("Stored coordinates for location {} ('{}')", locationId, displayName);
+        } catch (Exception e) {
+            logger.error("Error geocoding location {} ('{}'): {}", locationId, displayName, e.getMessage());
+        } finally {
+            pendingLocationIds.remove(locationId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
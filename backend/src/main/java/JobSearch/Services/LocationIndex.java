@@ -0,0 +1,268 @@
+package JobSearch.Services;
+
+import DbConnections.DTO.Entities.Location;
+import DbConnections.Repositories.LocationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process spatial index of geocoded locations (id -> latitude/longitude)
+ * Resolves a center and radius into the nearby location ids and their distances without touching
+ * the database, so distance searches only have to join jobs to a short list of location ids.
+ * Locations are held in primitive arrays sorted by latitude: a radius search binary-searches the
+ * latitude band of its bounding box and computes exact distances only for points inside the box.
+ * Reads use an immutable snapshot; writes replace it. The index is loaded at startup, updated as
+ * locations are geocoded, and fully reloaded periodically to pick up other instances' writes.
+ */
+@Component
+public class LocationIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocationIndex.class);
+    private static final double EARTH_RADIUS_MILES = 3959;
+
+    private final LocationRepository locationRepository;
+    private volatile Snapshot snapshot;
+
+    public LocationIndex(LocationRepository locationRepository) {
+        this.locationRepository = locationRepository;
+    }
+
+    /**
+     * Load every geocoded location once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            reload();
+        } catch (Exception e) {
+            logger.warn("Failed to load location index, it will be loaded on first use: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reload the whole index, picking up locations geocoded by other instances
+     */
+    @Scheduled(fixedDelayString = "${app.location-index.refresh-minutes:15}",
+               initialDelayString = "${app.location-index.refresh-minutes:15}",
+               timeUnit = TimeUnit.MINUTES)
+    public void refresh() {
+        try {
+            reload();
+        } catch (Exception e) {
+            logger.warn("Failed to refresh location index, keeping the previous one: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Add or move a location after its coordinates were stored
+     */
+    public synchronized void put(long locationId, double latitude, double longitude) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // Not loaded yet; the initial load reads the new coordinates from the database
+            return;
+        }
+        snapshot = current.with(locationId, latitude, longitude);
+    }
+
+    /**
+     * Locations within radiusMiles of the center, with their great-circle distances
+     */
+    public Nearby findWithin(double latitude, double longitude, double radiusMiles) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = loadIfAbsent();
+        }
+
+        GeoBoundingBox box = GeoBoundingBox.around(latitude, longitude, radiusMiles);
+        int from = current.firstAtOrAbove(box.getMinLatitude());
+
+        long[] ids = new long[16];
+        double[] distances = new double[16];
+        int count = 0;
+        for (int i = from; i < current.size && current.latitudes[i] <= box.getMaxLatitude(); i++) {
+            double lon = current.longitudes[i];
+            if (lon < box.getMinLongitude() || lon > box.getMaxLongitude()) {
+                continue;
+            }
+
+            double distance = distanceMiles(latitude, longitude, current.latitudes[i], lon);
+            if (distance <= radiusMiles) {
+                if (count == ids.length) {
+                    ids = Arrays.copyOf(ids, count * 2);
+                    distances = Arrays.copyOf(distances, count * 2);
+                }
+                ids[count] = current.ids[i];
+                distances[count] = distance;
+                count++;
+            }
+        }
+        return new Nearby(ids, distances, count);
+    }
+
+    /**
+     * Number of indexed locations
+     */
+    public int size() {
+        Snapshot current = snapshot;
+        return current != null ? current.size : 0;
+    }
+
+    private synchronized Snapshot loadIfAbsent() {
+        if (snapshot == null) {
+            reload();
+        }
+        return snapshot;
+    }
+
+    private synchronized void reload() {
+        List<Location> locations = locationRepository.findByLatitudeIsNotNullAndLongitudeIsNotNull();
+        snapshot = Snapshot.of(locations);
+        logger.info("Location index loaded: {} geocoded locations", snapshot.size);
+    }
+
+    /**
+     * Great-circle distance in miles, using the same formula as the database queries
+     */
+    private static double distanceMiles(double lat1, double lon1, double lat2, double lon2) {
+        double cosine = Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.cos(Math.toRadians(lon2) - Math.toRadians(lon1))
+                + Math.sin(Math.toRadians(lat1)) * Math.sin(Math.toRadians(lat2));
+        return EARTH_RADIUS_MILES * Math.acos(Math.min(1.0, cosine));
+    }
+
+    /**
+     * Location ids near a search center and their distances in miles, as parallel arrays
+     */
+    public static final class Nearby {
+
+        private final long[] ids;
+        private final double[] distances;
+        private final int size;
+
+        private Nearby(long[] ids, double[] distances, int size) {
+            this.ids = ids;
+            this.distances = distances;
+            this.size = size;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /** Comma-separated location ids, in the form JobRepository's distance queries bind them */
+        public String getLocationIdsParameter() {
+            StringJoiner joiner = new StringJoiner(",");
+            for (int i = 0; i < size; i++) {
+                joiner.add(Long.toString(ids[i]));
+            }
+            return joiner.toString();
+        }
+
+        /** Comma-separated distances in miles, in the same order as getLocationIdsParameter() */
+        public String getDistancesParameter() {
+            StringJoiner joiner = new StringJoiner(",");
+            for (int i = 0; i < size; i++) {
+                joiner.add(Double.toString(distances[i]));
+            }
+            return joiner.toString();
+        }
+    }
+
+    /**
+     * Immutable set of indexed locations, sorted by latitude
+     */
+    private static final class Snapshot {
+
+        private final long[] ids;
+        private final double[] latitudes;
+        private final double[] longitudes;
+        private final int size;
+
+        private Snapshot(long[] ids, double[] latitudes, double[] longitudes, int size) {
+            this.ids = ids;
+            this.latitudes = latitudes;
+            this.longitudes = longitudes;
+            this.size = size;
+        }
+
+        static Snapshot of(List<Location> locations) {
+            List<Location> sorted = locations.stream()
+                    .sorted((a, b) -> Double.compare(a.getLatitude(), b.getLatitude()))
+                    .toList();
+
+            int size = sorted.size();
+            long[] ids = new long[size];
+            double[] latitudes = new double[size];
+            double[] longitudes = new double[size];
+            for (int i = 0; i < size; i++) {
+                Location location = sorted.get(i);
+                ids[i] = location.getId();
+                latitudes[i] = location.getLatitude();
+                longitudes[i] = location.getLongitude();
+            }
+            return new Snapshot(ids, latitudes, longitudes, size);
+        }
+
+        /**
+         * Copy with the location inserted at its latitude position, replacing any previous entry
+         */
+        Snapshot with(long id, double latitude, double longitude) {
+            long[] newIds = new long[size + 1];
+            double[] newLatitudes = new double[size + 1];
+            double[] newLongitudes = new double[size + 1];
+
+            int n = 0;
+            boolean inserted = false;
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    continue;
+                }
+                if (!inserted && latitudes[i] > latitude) {
+                    newIds[n] = id;
+                    newLatitudes[n] = latitude;
+                    newLongitudes[n] = longitude;
+                    n++;
+                    inserted = true;
+                }
+                newIds[n] = ids[i];
+                newLatitudes[n] = latitudes[i];
+                newLongitudes[n] = longitudes[i];
+                n++;
+            }
+            if (!inserted) {
+                newIds[n] = id;
+                newLatitudes[n] = latitude;
+                newLongitudes[n] = longitude;
+                n++;
+            }
+            return new Snapshot(newIds, newLatitudes, newLongitudes, n);
+        }
+
+        /**
+         * Index of the first location with latitude >= the given value
+         */
+        int firstAtOrAbove(double latitude) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (latitudes[mid] < latitude) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package JobSearch.Services;
+
+import JobSearch.Clients.TokenBucketRateLimiter;
+import JobSearch.Services.Implementations.GeocoderImpl;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Geocoder backed by the Nominatim (OpenStreetMap) API - free, no API key required
+ * Outbound calls are rate limited to Nominatim's usage policy (max 1 request per second),
+ * so it is consulted last, only for locations the local geocoders do not know.
+ */
+@Component
+@Order(2)
+public class NominatimGeocoder implements GeocoderImpl {
+
+    private static final Logger logger = LoggerFactory.getLogger(NominatimGeocoder.class);
+    private static final String NOMINATIM_URL = "https://nominatim.openstreetmap.org/search";
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final TokenBucketRateLimiter nominatimRateLimiter;
+
+    public NominatimGeocoder(@Qualifier("geocodingRestTemplate") RestTemplate restTemplate,
+                             ObjectMapper objectMapper,
+                             @Value("${app.geocoding.nominatim.requests-per-second:1}") double requestsPerSecond) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.nominatimRateLimiter = new TokenBucketRateLimiter(requestsPerSecond, 1);
+    }
+
+    @Override
+    public GeocodingService.Coordinates geocode(String location) throws Exception {
+        String url = NOMINATIM_URL + "?q=" + location + "&format=json&limit=1";
+
+        // Add User-Agent header (required by Nominatim)
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("User-Agent", "JobSearchApplication/1.0");
+
+        HttpEntity<String> entity = new HttpEntity<>(headers);
+        nominatimRateLimiter.acquire();
+        ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
+
+        String body = response.getBody();
+        if (body == null || body.equals("[]")) {
+            logger.warn("No geocoding results found for location: {}", location);
+            return null;
+        }
+
+        JsonNode root = objectMapper.readTree(body);
+        if (root.isArray() && root.size() > 0) {
+            JsonNode firstResult = root.get(0);
+            double lat = firstResult.get("lat").asDouble();
+            double lon = firstResult.get("lon").asDouble();
+            String displayName = firstResult.get("display_name").asText();
+
+            logger.info("Geocoded '{}' to: {} (lat: {}, lon: {})", location, displayName, lat, lon);
+            return new GeocodingService.Coordinates(lat, lon, displayName);
+        }
+
+        return null;
+    }
+}
@@ -4,7 +4,6 @@ import Authentication.DTO.UserDto;
 import Authentication.Entities.User;
 import Authentication.Repositories.UserRepository;
 import DbConnections.DTO.Entities.SavedQuery;
-import DbConnections.Repositories.JobRepository;
 import DbConnections.Repositories.SavedQueryRepository;
 import JobSearch.Services.Implementations.JobSearchImpl;
 import org.slf4j.Logger;
@@ -26,18 +25,15 @@ public class ScheduledJobFetchService {
 
     private final JobSearchImpl jobSearchService;
     private final SavedQueryRepository savedQueryRepository;
-    private final JobRepository jobRepository;
     private final UserRepository userRepository;
     private final EmailService emailService;
 
     public ScheduledJobFetchService(JobSearchImpl jobSearchService, 
                                    SavedQueryRepository savedQueryRepository,
-                                   JobRepository jobRepository,
                                    UserRepository userRepository,
                                    EmailService emailService) {
         this.jobSearchService = jobSearchService;
         this.savedQueryRepository = savedQueryRepository;
-        this.jobRepository = jobRepository;
         this.userRepository = userRepository;
         this.emailService = emailService;
     }
@@ -79,15 +75,8 @@ public class ScheduledJobFetchService {
         try {
             logger.info("Fetching jobs for query: '{}', location: '{}'", savedQuery.getQuery(), savedQuery.getLocation());
 
-            // Count jobs before fetch
-            long jobCountBefore = jobRepository.count();
-
-            // This will fetch multiple pages and save to database
-            jobSearchService.searchJobs(savedQuery.getQuery(), savedQuery.getLocation(), savedQuery.getDistance());
-
-            // Count jobs after fetch
-            long jobCountAfter = jobRepository.count();
-            int newJobCount = (int) (jobCountAfter - jobCountBefore);
+            // This will fetch multiple pages and save to database, returning only truly new rows
+            int newJobCount = jobSearchService.searchJobs(savedQuery.getQuery(), savedQuery.getLocation(), savedQuery.getDistance());
 
             // Update saved query with new job count and last run time
             savedQuery.setNewJobsCount(newJobCount);
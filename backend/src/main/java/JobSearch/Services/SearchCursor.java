@@ -0,0 +1,69 @@
+package JobSearch.Services;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a keyset-paginated job search, ordered by (created_date DESC, id DESC)
+ * Handed to clients as an opaque URL-safe token; the next page starts strictly after it.
+ */
+public final class SearchCursor {
+
+    // Sorts before every real row, so the first page needs no special-case query
+    private static final SearchCursor FIRST = new SearchCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private final LocalDateTime createdDate;
+    private final long id;
+
+    private SearchCursor(LocalDateTime createdDate, long id) {
+        this.createdDate = createdDate;
+        this.id = id;
+    }
+
+    /**
+     * Cursor for the first page of a search
+     */
+    public static SearchCursor first() {
+        return FIRST;
+    }
+
+    /**
+     * Cursor pointing just after the job with the given created date and id
+     */
+    public static SearchCursor after(LocalDateTime createdDate, long id) {
+        return new SearchCursor(createdDate, id);
+    }
+
+    /**
+     * Decode a token produced by encode()
+     * @throws IllegalArgumentException if the token was not produced by this class
+     */
+    public static SearchCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid search cursor");
+            }
+            return new SearchCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid search cursor", e);
+        }
+    }
+
+    public String encode() {
+        String raw = createdDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    public long getId() {
+        return id;
+    }
+}
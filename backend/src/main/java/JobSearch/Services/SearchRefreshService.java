@@ -0,0 +1,184 @@
+package JobSearch.Services;
+
+import DbConnections.DTO.JobSearchResponseDto;
+import JobSearch.Services.Implementations.JobSearchImpl;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Serve-then-refresh orchestration for interactive job searches
+ * Results are always served from the database. The upstream Adzuna fetch only runs when the
+ * (query, location, distance) tuple has not been fetched within the refresh window, and then in
+ * the background - unless the database has nothing for the search yet, in which case the first
+ * fetch runs inline so the user does not get an empty page.
+ * Last-fetch markers live in Redis with the window as TTL, so all instances share them.
+ */
+@Service
+public class SearchRefreshService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchRefreshService.class);
+    private static final String LAST_FETCH_KEY_PREFIX = "jobSearch:lastFetch:";
+
+    private final JobSearchImpl jobSearchImpl;
+    private final JobSearchService jobSearchService;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean serveThenRefresh;
+    private final Duration refreshWindow;
+    private final Set<String> refreshesInFlight = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public SearchRefreshService(JobSearchImpl jobSearchImpl,
+                                JobSearchService jobSearchService,
+                                StringRedisTemplate redisTemplate,
+                                @Value("${app.search.serve-then-refresh:true}") boolean serveThenRefresh,
+                                @Value("${app.search.refresh-window-minutes:60}") long refreshWindowMinutes) {
+        this.jobSearchImpl = jobSearchImpl;
+        this.jobSearchService = jobSearchService;
+        this.redisTemplate = redisTemplate;
+        this.serveThenRefresh = serveThenRefresh;
+        this.refreshWindow = Duration.ofMinutes(refreshWindowMinutes);
+    }
+
+    /**
+     * Search jobs, refreshing from Adzuna only when the search is stale
+     */
+    public JobSearchResponseDto search(String query, String location, int distance,
+                                       String excludedTerms, LocalDate dateFrom, LocalDate dateTo) {
+        return searchWithRefresh(query, location, distance,
+                () -> jobSearchService.getJobsFromDatabase(query, location, distance, excludedTerms, dateFrom, dateTo));
+    }
+
+    /**
+     * Get one keyset-paginated page of a search
+     * Only the first page (no cursor) can trigger a refresh; later pages just continue reading
+     */
+    public JobSearchResponseDto searchPage(String query, String location, int distance,
+                                           String excludedTerms, LocalDate dateFrom, LocalDate dateTo,
+                                           int limit, String cursor) {
+        Supplier<JobSearchResponseDto> readPage = () -> jobSearchService.getJobPageFromDatabase(
+                query, location, distance, excludedTerms, dateFrom, dateTo, limit, cursor);
+
+        if (cursor != null && !cursor.isBlank()) {
+            return readPage.get();
+        }
+        return searchWithRefresh(query, location, distance, readPage);
+    }
+
+    /**
+     * Serve results from the database, refreshing the (query, location, distance) tuple from Adzuna if stale
+     * @param readFromDatabase Reads the response; called again after an inline refresh
+     */
+    private JobSearchResponseDto searchWithRefresh(String query, String location, int distance,
+                                                   Supplier<JobSearchResponseDto> readFromDatabase) {
+        if (!serveThenRefresh) {
+            jobSearchImpl.searchJobs(query, location, distance);
+            return readFromDatabase.get();
+        }
+
+        String fetchKey = buildFetchKey(query, location, distance);
+
+        if (refreshesInFlight.contains(fetchKey)) {
+            return readFromDatabase.get().withFreshness(true, true);
+        }
+
+        if (!claimRefresh(fetchKey)) {
+            // Fetched within the refresh window - serve straight from the database
+            return readFromDatabase.get();
+        }
+
+        JobSearchResponseDto response = readFromDatabase.get();
+
+        if (response.getCount() == 0) {
+            logger.info("No stored jobs for query: {}, location: {} - fetching from Adzuna before responding", query, location);
+            refresh(fetchKey, query, location, distance);
+            return readFromDatabase.get();
+        }
+
+        refreshInBackground(fetchKey, query, location, distance);
+        return response.withFreshness(true, true);
+    }
+
+    /**
+     * Start a background refresh unless one is already running for this key on this instance
+     */
+    private void refreshInBackground(String fetchKey, String query, String location, int distance) {
+        if (!refreshesInFlight.add(fetchKey)) {
+            return;
+        }
+
+        logger.info("Search is stale, refreshing in background: query: {}, location: {}, distance: {}", query, location, distance);
+        refreshExecutor.execute(() -> {
+            try {
+                refresh(fetchKey, query, location, distance);
+            } finally {
+                refreshesInFlight.remove(fetchKey);
+            }
+        });
+    }
+
+    /**
+     * Fetch from Adzuna; cached results affected by new jobs are evicted as they are saved
+     * On failure the last-fetch marker is released so the next request retries
+     */
+    private void refresh(String fetchKey, String query, String location, int distance) {
+        try {
+            jobSearchImpl.searchJobs(query, location, distance);
+        } catch (Exception e) {
+            logger.error("Error refreshing jobs for query: {}, location: {} - {}", query, location, e.getMessage(), e);
+            releaseRefresh(fetchKey);
+        }
+    }
+
+    /**
+     * Atomically mark this search as fetched for the refresh window
+     * @return true if the caller should refresh (no fetch within the window)
+     */
+    private boolean claimRefresh(String fetchKey) {
+        try {
+            Boolean claimed = redisTemplate.opsForValue()
+                    .setIfAbsent(LAST_FETCH_KEY_PREFIX + fetchKey, LocalDateTime.now().toString(), refreshWindow);
+            return Boolean.TRUE.equals(claimed);
+        } catch (Exception e) {
+            logger.warn("Could not read last fetch time from Redis, treating search as stale: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private void releaseRefresh(String fetchKey) {
+        try {
+            redisTemplate.delete(LAST_FETCH_KEY_PREFIX + fetchKey);
+        } catch (Exception e) {
+            logger.warn("Could not clear last fetch time in Redis: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Normalized key for the upstream fetch (query, location, distance)
+     */
+    private String buildFetchKey(String query, String location, int distance) {
+        return normalize(query) + "|" + normalize(location) + "|" + distance;
+    }
+
+    private String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+}
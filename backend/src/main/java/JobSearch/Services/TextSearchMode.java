@@ -0,0 +1,20 @@
+package JobSearch.Services;
+
+/**
+ * How job searches match the query against job titles and descriptions
+ * Selected with app.search.text-mode
+ */
+public enum TextSearchMode {
+
+    /**
+     * Case-insensitive substring match (ILIKE '%query%')
+     * Index-backed once the pg_trgm indexes in init/optional/jobs_trigram_search.sql are installed
+     */
+    LIKE,
+
+    /**
+     * PostgreSQL full-text search on the GIN-indexed jobs.search_vector column, ranked by relevance
+     * Requires init/schema_001_jobs_full_text_search.sql
+     */
+    FULL_TEXT
+}
@@ -0,0 +1,20 @@
+-- JobHunter Optional Index: trigram substring search
+-- Makes the ILIKE '%term%' job searches (app.search.text-mode=LIKE) index-backed.
+--
+-- Opt-in: this file lives outside the top level of init/, so Docker does NOT run it automatically.
+-- Apply by hand when substring search gets slow, e.g.:
+--   psql -U admin -d JobHunterDb2 -f init/optional/jobs_trigram_search.sql
+-- Every statement is idempotent.
+
+-- ============================================
+-- EXTENSIONS
+-- ============================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- ============================================
+-- INDEXES
+-- ============================================
+
+CREATE INDEX IF NOT EXISTS idx_jobs_title_trgm ON jobs USING GIN (title gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_jobs_description_trgm ON jobs USING GIN (description gin_trgm_ops);
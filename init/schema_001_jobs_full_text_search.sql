@@ -0,0 +1,25 @@
+-- JobHunter Database Migration 001
+-- Full-text search on jobs.title / jobs.description
+--
+-- Runs after schema.sql on a fresh Docker PostgreSQL volume (files run in name order).
+-- Safe to run by hand against an existing database: every statement is idempotent.
+-- Enable in the backend with: app.search.text-mode=FULL_TEXT
+
+-- ============================================
+-- COLUMNS
+-- ============================================
+
+-- Weighted search document: title matches (A) rank above description matches (B).
+-- A STORED generated column is maintained by PostgreSQL on every insert/update.
+ALTER TABLE jobs
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B')
+    ) STORED;
+
+-- ============================================
+-- INDEXES
+-- ============================================
+
+CREATE INDEX IF NOT EXISTS idx_jobs_search_vector ON jobs USING GIN (search_vector);
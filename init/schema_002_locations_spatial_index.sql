@@ -0,0 +1,14 @@
+-- JobHunter Database Migration 002
+-- Drop the lat/lon bounding-box index
+--
+-- Runs after schema.sql on a fresh Docker PostgreSQL volume (files run in name order).
+-- Safe to run by hand against an existing database: every statement is idempotent.
+
+-- ============================================
+-- INDEXES
+-- ============================================
+
+-- Distance searches are resolved by the in-memory LocationIndex, so no query filters locations
+-- by latitude/longitude any more. The composite index only slowed down every coordinate write
+-- from geocoding; databases created with an earlier version of this migration drop it here.
+DROP INDEX IF EXISTS idx_locations_lat_lon;
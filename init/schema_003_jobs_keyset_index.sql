@@ -0,0 +1,14 @@
+-- JobHunter Database Migration 003
+-- Keyset pagination for job searches
+--
+-- Runs after schema.sql on a fresh Docker PostgreSQL volume (files run in name order).
+-- Safe to run by hand against an existing database: every statement is idempotent.
+
+-- ============================================
+-- INDEXES
+-- ============================================
+
+-- Paginated searches read jobs in (created_date DESC, id DESC) order and resume strictly
+-- after the previous page's last row, so each page is an index range scan of `limit` rows
+-- instead of an OFFSET that re-reads every skipped page.
+CREATE INDEX IF NOT EXISTS idx_jobs_created_date_id ON jobs(created_date DESC, id DESC);
@@ -0,0 +1,28 @@
+-- JobHunter Database Migration 004
+-- Durable geocoding results
+--
+-- Runs after schema.sql on a fresh Docker PostgreSQL volume (files run in name order).
+-- Safe to run by hand against an existing database: every statement is idempotent.
+
+-- ============================================
+-- TABLES
+-- ============================================
+
+-- Coordinates for search inputs that are not a location display name (e.g. "manchester uk"),
+-- keyed by the trimmed, lowercased input. Consulted before calling the geocoding API, so a
+-- Redis flush or cache expiry no longer sends previously seen places back to Nominatim.
+-- Inputs that match a location reuse locations.latitude/longitude instead.
+CREATE TABLE IF NOT EXISTS geocoded_places (
+    search_text VARCHAR(255) PRIMARY KEY,
+    latitude DOUBLE PRECISION NOT NULL,
+    longitude DOUBLE PRECISION NOT NULL,
+    display_name VARCHAR(500) NOT NULL,
+    geocoded_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- ============================================
+-- INDEXES
+-- ============================================
+
+-- Search inputs are matched against location display names case-insensitively
+CREATE INDEX IF NOT EXISTS idx_locations_display_name_lower ON locations(lower(display_name));
@@ -592,9 +592,7 @@ export function JobSearchDashboard({ savedQueryToExecute, onQueryExecuted, onQue
                           ${job.salaryMin?.toLocaleString()} - ${job.salaryMax?.toLocaleString()}
                         </p>
                       )}
-                      <p className="text-gray-700 text-sm line-clamp-2 mb-3"
-                         dangerouslySetInnerHTML={{ __html: job.description }}
-                      />
+                      <p className="text-gray-700 text-sm line-clamp-2 mb-3">{job.snippet}</p>
                       <div className="flex gap-2 flex-wrap">
                         <span className="px-3 py-1 bg-purple-100 text-purple-700 rounded-full text-xs">
                           {job.categoryName}
@@ -77,6 +77,14 @@ export const api = {
       requestParams.dateTo = params.dateTo;
     }
 
+    // Add optional pagination parameters if provided
+    if (params.limit) {
+      requestParams.limit = params.limit;
+    }
+    if (params.cursor) {
+      requestParams.cursor = params.cursor;
+    }
+
     const response = await apiClient.get<JobSearchResponse>('/api/jobs/search', {
       params: requestParams,
     });
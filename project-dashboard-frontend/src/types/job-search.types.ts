@@ -5,11 +5,15 @@ export interface JobSearchParams {
   excludedTerms?: string; // Comma-separated terms to exclude
   dateFrom?: string; // ISO date string (YYYY-MM-DD)
   dateTo?: string; // ISO date string (YYYY-MM-DD)
+  limit?: number; // Page size; omit to get every match
+  cursor?: string; // nextCursor from the previous page
 }
 
 export interface JobSearchResponse {
   count: number;
   results: JobResult[];
+  totalCount?: number; // Paginated searches, first page only
+  nextCursor?: string; // Paginated searches; absent on the last page
 }
 
 export interface JobResult {
@@ -24,7 +28,8 @@ export interface JobResult {
   categoryName: string;
   salaryMin?: number;
   salaryMax?: number;
-  description: string;
+  description?: string; // Full description; only returned by the job detail endpoint
+  snippet?: string; // Start of the description; returned in search results
   jobUrl: string;
   source: string;
   createdDate: string;